@@ -4,12 +4,14 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
 
 @Setter
 @ConfigurationProperties(prefix = "test")
-public class AppProperties implements TestConfig, TestFileNameProvider, LocaleConfig {
+public class AppProperties implements TestConfig, TestFileNameProvider, LocaleConfig, QuestionBankPathProvider,
+        QuizServerConfig {
 
     @Getter
     private int rightAnswersCountToPass;
@@ -19,6 +21,14 @@ public class AppProperties implements TestConfig, TestFileNameProvider, LocaleCo
 
     private Map<String, String> fileNameByLocaleTag;
 
+    private String bankDirectory;
+
+    @Getter
+    private int serverPort;
+
+    @Getter
+    private int serverMaxSessions;
+
     public void setLocale(String locale) {
         this.locale = Locale.forLanguageTag(locale);
     }
@@ -27,4 +37,12 @@ public class AppProperties implements TestConfig, TestFileNameProvider, LocaleCo
     public String getTestFileName() {
         return fileNameByLocaleTag.get(locale.toLanguageTag());
     }
+
+    @Override
+    public Path getQuestionBankPath() {
+        String testFileName = getTestFileName();
+        int extensionStart = testFileName.lastIndexOf('.');
+        String baseName = extensionStart < 0 ? testFileName : testFileName.substring(0, extensionStart);
+        return Path.of(bankDirectory, baseName + ".qbank");
+    }
 }
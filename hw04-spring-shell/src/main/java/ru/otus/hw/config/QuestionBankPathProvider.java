@@ -0,0 +1,7 @@
+package ru.otus.hw.config;
+
+import java.nio.file.Path;
+
+public interface QuestionBankPathProvider {
+    Path getQuestionBankPath();
+}
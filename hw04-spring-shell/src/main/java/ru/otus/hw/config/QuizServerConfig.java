@@ -0,0 +1,7 @@
+package ru.otus.hw.config;
+
+public interface QuizServerConfig {
+    int getServerPort();
+
+    int getServerMaxSessions();
+}
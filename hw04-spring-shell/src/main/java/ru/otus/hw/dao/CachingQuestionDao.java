@@ -0,0 +1,207 @@
+package ru.otus.hw.dao;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Keeps parsed questions per locale and reloads them when the source file changes. A {@link StreamingQuestionDao}
+ * source is passed through untouched, copying it into heap would defeat its lazy reading or memory mapping.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "test.dao.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingQuestionDao implements QuestionDao {
+
+    private final QuestionDao delegate;
+
+    private final LocaleConfig localeConfig;
+
+    private final WatchService watchService;
+
+    private final Map<String, CachedQuestions> questionsByLocaleTag = new ConcurrentHashMap<>();
+
+    private final Map<Path, WatchKey> watchKeyByDirectory = new ConcurrentHashMap<>();
+
+    private final Set<Path> changedPaths = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder reloads = new LongAdder();
+
+    public CachingQuestionDao(@Qualifier("questionSource") QuestionDao delegate, LocaleConfig localeConfig) {
+        this.delegate = delegate;
+        this.localeConfig = localeConfig;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new QuestionReadException("Error creating questions file watcher", e);
+        }
+    }
+
+    @Override
+    public List<Question> findAll() {
+        if (delegate instanceof StreamingQuestionDao) {
+            return delegate.findAll();
+        }
+        pollChanges();
+        String localeTag = localeConfig.getLocale().toLanguageTag();
+        var cached = questionsByLocaleTag.get(localeTag);
+        if (cached != null && !isChanged(cached)) {
+            hits.increment();
+            return cached.questions();
+        }
+        return questionsByLocaleTag.compute(localeTag, (tag, current) -> {
+            if (current == null) {
+                misses.increment();
+                return load();
+            }
+            if (!isChanged(current)) {
+                hits.increment();
+                return current;
+            }
+            return refresh(current);
+        }).questions();
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        return delegate instanceof StreamingQuestionDao ? delegate.streamAll() : findAll().stream();
+    }
+
+    @Override
+    public Optional<Path> findSourcePath() {
+        return delegate.findSourcePath();
+    }
+
+    public QuestionCacheStatistics getStatistics() {
+        return new QuestionCacheStatistics(hits.sum(), misses.sum(), reloads.sum(), questionsByLocaleTag.size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private CachedQuestions load() {
+        Path path = delegate.findSourcePath().map(Path::toAbsolutePath).orElse(null);
+        Fingerprint fingerprint = null;
+        if (path != null) {
+            watch(path.getParent());
+            fingerprint = fingerprint(path);
+        }
+        var questions = delegate.findAll().stream()
+                .map(question -> new Question(question.text(), List.copyOf(question.answers())))
+                .toList();
+        return new CachedQuestions(questions, path, fingerprint);
+    }
+
+    private CachedQuestions refresh(CachedQuestions current) {
+        changedPaths.remove(current.sourcePath());
+        if (!Files.exists(current.sourcePath())) {
+            hits.increment();
+            return current;
+        }
+        var fingerprint = fingerprint(current.sourcePath());
+        if (fingerprint.checksum() == current.fingerprint().checksum()) {
+            hits.increment();
+            return new CachedQuestions(current.questions(), current.sourcePath(), fingerprint);
+        }
+        log.info("Questions file {} has changed, reloading", current.sourcePath());
+        reloads.increment();
+        return load();
+    }
+
+    private boolean isChanged(CachedQuestions cached) {
+        Path path = cached.sourcePath();
+        if (path == null) {
+            return false;
+        }
+        if (watchKeyByDirectory.containsKey(path.getParent())) {
+            return changedPaths.contains(path);
+        }
+        return isModified(cached);
+    }
+
+    private boolean isModified(CachedQuestions cached) {
+        try {
+            return !Files.getLastModifiedTime(cached.sourcePath()).equals(cached.fingerprint().lastModified());
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private void pollChanges() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = (Path) key.watchable();
+            for (var event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    questionsByLocaleTag.values().stream()
+                            .map(CachedQuestions::sourcePath)
+                            .filter(path -> path != null && directory.equals(path.getParent()))
+                            .forEach(changedPaths::add);
+                } else {
+                    changedPaths.add(directory.resolve((Path) event.context()));
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private void watch(Path directory) {
+        watchKeyByDirectory.computeIfAbsent(directory, dir -> {
+            try {
+                return dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            } catch (IOException e) {
+                log.warn("Unable to watch {}, falling back to modification time checks: {}", dir, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    private static Fingerprint fingerprint(Path path) {
+        try (var is = new CheckedInputStream(Files.newInputStream(path), new CRC32())) {
+            FileTime lastModified = Files.getLastModifiedTime(path);
+            is.transferTo(OutputStream.nullOutputStream());
+            return new Fingerprint(lastModified, is.getChecksum().getValue());
+        } catch (IOException e) {
+            throw new QuestionReadException("Error reading questions file " + path, e);
+        }
+    }
+
+    private record CachedQuestions(List<Question> questions, Path sourcePath, Fingerprint fingerprint) {
+    }
+
+    private record Fingerprint(FileTime lastModified, long checksum) {
+    }
+}
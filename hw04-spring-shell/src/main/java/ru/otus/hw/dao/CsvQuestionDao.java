@@ -2,6 +2,8 @@ package ru.otus.hw.dao;
 
 import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.config.TestFileNameProvider;
 import ru.otus.hw.dao.dto.QuestionDto;
@@ -9,12 +11,17 @@ import ru.otus.hw.domain.Question;
 import ru.otus.hw.exceptions.QuestionReadException;
 
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
+@Qualifier("questionSource")
+@ConditionalOnProperty(prefix = "test.dao", name = "mode", havingValue = "csv", matchIfMissing = true)
 public class CsvQuestionDao implements QuestionDao {
     private final TestFileNameProvider fileNameProvider;
 
@@ -25,20 +32,28 @@ public class CsvQuestionDao implements QuestionDao {
             if (is == null) {
                 throw new QuestionReadException("File not found: " + fileName);
             }
-            var reader = new InputStreamReader(is, StandardCharsets.UTF_8);
-            var csvToBean = new CsvToBeanBuilder<QuestionDto>(reader)
-                    .withType(QuestionDto.class)
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .withSeparator(';')
-                    .withSkipLines(1)
-                    .build();
-
-            return csvToBean.parse()
-                    .stream()
-                    .map(QuestionDto::toDomainObject)
-                    .collect(Collectors.toList());
+            return readQuestions(new InputStreamReader(is, StandardCharsets.UTF_8));
         } catch (Exception e) {
             throw new QuestionReadException("Error reading questions", e);
         }
     }
+
+    @Override
+    public Optional<Path> findSourcePath() {
+        return QuestionResourcePaths.findFilePath(fileNameProvider.getTestFileName());
+    }
+
+    static List<Question> readQuestions(Reader reader) {
+        var csvToBean = new CsvToBeanBuilder<QuestionDto>(reader)
+                .withType(QuestionDto.class)
+                .withIgnoreLeadingWhiteSpace(true)
+                .withSeparator(';')
+                .withSkipLines(1)
+                .build();
+
+        return csvToBean.parse()
+                .stream()
+                .map(QuestionDto::toDomainObject)
+                .collect(Collectors.toList());
+    }
 }
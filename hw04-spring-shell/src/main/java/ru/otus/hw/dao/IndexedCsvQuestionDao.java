@@ -0,0 +1,179 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Component
+@Qualifier("questionSource")
+@ConditionalOnProperty(prefix = "test.dao", name = "mode", havingValue = "indexed")
+public class IndexedCsvQuestionDao implements StreamingQuestionDao {
+
+    private static final int HEADER_LINES = 1;
+
+    private static final PlainQuestionParser PARSER = new PlainQuestionParser();
+
+    private final TestFileNameProvider fileNameProvider;
+
+    private final Map<String, IndexedFile> indexByFileName = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Question> findAll() {
+        try (var questions = streamAll()) {
+            return questions.toList();
+        }
+    }
+
+    @Override
+    public Optional<Path> findSourcePath() {
+        return QuestionResourcePaths.findFilePath(fileNameProvider.getTestFileName());
+    }
+
+    /**
+     * Also revalidates the offset index against the size and modification time of the questions file,
+     * so a run of {@link #findByIndex(int)} calls after it sees the current file.
+     */
+    @Override
+    public int count() {
+        return index(fileNameProvider.getTestFileName(), true).index().count();
+    }
+
+    @Override
+    public Question findByIndex(int index) {
+        String fileName = fileNameProvider.getTestFileName();
+        var indexedFile = index(fileName, false);
+        long offset = indexedFile.index().offset(index);
+        int length = indexedFile.index().length(index);
+        try {
+            byte[] line = indexedFile.path() != null ? read(indexedFile.path(), offset, length)
+                    : skipAndRead(fileName, offset, length);
+            return PARSER.parse(new String(line, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new QuestionReadException("Error reading question #%d from %s".formatted(index, fileName), e);
+        }
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        String fileName = fileNameProvider.getTestFileName();
+        var reader = new BufferedReader(new InputStreamReader(open(fileName), StandardCharsets.UTF_8));
+        return reader.lines()
+                .skip(HEADER_LINES)
+                .filter(line -> !line.isBlank())
+                .map(PARSER::parse)
+                .onClose(() -> close(reader));
+    }
+
+    private IndexedFile index(String fileName, boolean revalidate) {
+        var indexed = indexByFileName.computeIfAbsent(fileName, IndexedFile::build);
+        if (revalidate && indexed.isStale()) {
+            indexed = IndexedFile.build(fileName);
+            indexByFileName.put(fileName, indexed);
+        }
+        return indexed;
+    }
+
+    /**
+     * Positional read of a file resource, the channel seeks straight to the question.
+     */
+    private static byte[] read(Path path, long offset, int length) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Questions file %s is shorter than its index".formatted(path));
+                }
+            }
+            return buffer.array();
+        }
+    }
+
+    /**
+     * Resources inside a jar are not seekable, they are read up to the question.
+     */
+    private static byte[] skipAndRead(String fileName, long offset, int length) throws IOException {
+        try (var is = open(fileName)) {
+            is.skipNBytes(offset);
+            return is.readNBytes(length);
+        }
+    }
+
+    private static InputStream open(String fileName) {
+        URL url = IndexedCsvQuestionDao.class.getClassLoader().getResource(fileName);
+        if (url == null) {
+            throw new QuestionReadException("File not found: " + fileName);
+        }
+        try {
+            return url.openStream();
+        } catch (IOException e) {
+            throw new QuestionReadException("Error opening " + fileName, e);
+        }
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Offset index of a questions resource. For a file resource it remembers the size and modification time
+     * the index was built from, a resource inside a jar cannot change and is never stale.
+     */
+    private record IndexedFile(QuestionOffsetIndex index, Path path, long size, FileTime lastModified) {
+
+        static IndexedFile build(String fileName) {
+            Path path = QuestionResourcePaths.findFilePath(fileName).orElse(null);
+            try {
+                BasicFileAttributes attributes = path == null ? null
+                        : Files.readAttributes(path, BasicFileAttributes.class);
+                try (var is = open(fileName)) {
+                    return new IndexedFile(QuestionOffsetIndex.build(is, HEADER_LINES), path,
+                            attributes == null ? 0 : attributes.size(),
+                            attributes == null ? null : attributes.lastModifiedTime());
+                }
+            } catch (IOException e) {
+                throw new QuestionReadException("Error indexing questions in " + fileName, e);
+            }
+        }
+
+        boolean isStale() {
+            if (path == null) {
+                return false;
+            }
+            try {
+                var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return attributes.size() != size || !attributes.lastModifiedTime().equals(lastModified);
+            } catch (IOException e) {
+                return true;
+            }
+        }
+    }
+}
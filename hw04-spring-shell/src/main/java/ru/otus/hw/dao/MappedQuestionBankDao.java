@@ -0,0 +1,149 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.QuestionBankPathProvider;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Component
+@Qualifier("questionSource")
+@ConditionalOnProperty(prefix = "test.dao", name = "mode", havingValue = "bank")
+public class MappedQuestionBankDao implements StreamingQuestionDao {
+
+    private final QuestionBankPathProvider bankPathProvider;
+
+    private final Map<Path, MappedBank> banks = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Question> findAll() {
+        var bank = bank(true);
+        List<Question> questions = new ArrayList<>(bank.count());
+        for (int i = 0; i < bank.count(); i++) {
+            questions.add(bank.question(i));
+        }
+        return questions;
+    }
+
+    @Override
+    public Optional<Path> findSourcePath() {
+        return Optional.of(bankPathProvider.getQuestionBankPath());
+    }
+
+    /**
+     * Also remaps the bank if the file was recompiled, so a run of {@link #findByIndex(int)} calls after it
+     * reads the current bank without a file system check per question.
+     */
+    @Override
+    public int count() {
+        return bank(true).count();
+    }
+
+    @Override
+    public Question findByIndex(int index) {
+        return bank(false).question(index);
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        var bank = bank(true);
+        return IntStream.range(0, bank.count()).mapToObj(bank::question);
+    }
+
+    private MappedBank bank(boolean revalidate) {
+        Path path = bankPathProvider.getQuestionBankPath();
+        var current = banks.get(path);
+        if (current != null && !revalidate) {
+            return current;
+        }
+        FileTime lastModified = lastModified(path);
+        return banks.compute(path, (p, bank) ->
+                bank != null && bank.lastModified().equals(lastModified) ? bank : MappedBank.map(p, lastModified));
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new QuestionReadException("Question bank not found: " + path, e);
+        }
+    }
+
+    private record MappedBank(ByteBuffer buffer, FileTime lastModified, int count,
+                              int questionTableOffset, int stringTableOffset) {
+
+        static MappedBank map(Path path, FileTime lastModified) {
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.capacity() < QuestionBankFormat.HEADER_SIZE
+                        || buffer.getInt(0) != QuestionBankFormat.MAGIC) {
+                    throw new QuestionReadException("Not a question bank: " + path);
+                }
+                if (buffer.getInt(Integer.BYTES) != QuestionBankFormat.VERSION) {
+                    throw new QuestionReadException("Unsupported question bank version: " + path);
+                }
+                int stringCount = buffer.getInt(QuestionBankFormat.STRING_COUNT_POSITION);
+                int stringTableOffset = buffer.getInt(QuestionBankFormat.STRING_TABLE_POSITION);
+                int stringDataOffset = buffer.getInt(QuestionBankFormat.STRING_DATA_POSITION);
+                if (stringCount < 0 || stringTableOffset < QuestionBankFormat.HEADER_SIZE
+                        || stringDataOffset > buffer.capacity()
+                        || stringDataOffset != stringTableOffset + (stringCount + 1L) * Integer.BYTES
+                        || buffer.getInt(stringTableOffset + stringCount * Integer.BYTES) != buffer.capacity()) {
+                    throw new QuestionReadException("Corrupted question bank: " + path);
+                }
+                int count = buffer.getInt(QuestionBankFormat.QUESTION_COUNT_POSITION);
+                int questionTableOffset = buffer.getInt(QuestionBankFormat.QUESTION_TABLE_POSITION);
+                if (count < 0 || questionTableOffset < QuestionBankFormat.HEADER_SIZE
+                        || (long) questionTableOffset + (long) count * Integer.BYTES > stringTableOffset) {
+                    throw new QuestionReadException("Corrupted question bank: " + path);
+                }
+                return new MappedBank(buffer, lastModified, count, questionTableOffset, stringTableOffset);
+            } catch (IOException e) {
+                throw new QuestionReadException("Error mapping question bank " + path, e);
+            }
+        }
+
+        Question question(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Question index %d out of range [0, %d)".formatted(index, count));
+            }
+            int position = buffer.getInt(questionTableOffset + index * Integer.BYTES);
+            String text = string(buffer.getInt(position));
+            int answersCount = buffer.getInt(position + Integer.BYTES);
+            List<Answer> answers = new ArrayList<>(answersCount);
+            for (int i = 0; i < answersCount; i++) {
+                int answer = buffer.getInt(position + (i + 2) * Integer.BYTES);
+                answers.add(new Answer(string(answer >>> 1), (answer & 1) == 1));
+            }
+            return new Question(text, answers);
+        }
+
+        private String string(int id) {
+            int start = buffer.getInt(stringTableOffset + id * Integer.BYTES);
+            int end = buffer.getInt(stringTableOffset + (id + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
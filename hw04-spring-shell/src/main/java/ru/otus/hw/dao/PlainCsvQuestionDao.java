@@ -0,0 +1,73 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+@Qualifier("questionSource")
+@ConditionalOnProperty(prefix = "test.dao", name = "mode", havingValue = "plain")
+public class PlainCsvQuestionDao implements QuestionDao {
+
+    private static final int HEADER_LINES = 1;
+
+    private static final PlainQuestionParser PARSER = new PlainQuestionParser();
+
+    private final TestFileNameProvider fileNameProvider;
+
+    @Override
+    public List<Question> findAll() {
+        String fileName = fileNameProvider.getTestFileName();
+        try (var is = getClass().getClassLoader().getResourceAsStream(fileName)) {
+            if (is == null) {
+                throw new QuestionReadException("File not found: " + fileName);
+            }
+            return readQuestions(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(is.readAllBytes())));
+        } catch (IOException e) {
+            throw new QuestionReadException("Error reading questions", e);
+        }
+    }
+
+    @Override
+    public Optional<Path> findSourcePath() {
+        return QuestionResourcePaths.findFilePath(fileNameProvider.getTestFileName());
+    }
+
+    static List<Question> readQuestions(CharBuffer content) {
+        char[] chars = content.array();
+        int offset = content.arrayOffset();
+        int end = offset + content.limit();
+
+        List<Question> questions = new ArrayList<>();
+        int lineNumber = 0;
+        int lineStart = offset + content.position();
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            boolean blank = true;
+            while (lineEnd < end && chars[lineEnd] != '\n') {
+                blank &= Character.isWhitespace(chars[lineEnd]);
+                lineEnd++;
+            }
+            if (lineNumber >= HEADER_LINES && !blank) {
+                questions.add(PARSER.parse(chars, lineStart, lineEnd));
+            }
+            lineNumber++;
+            lineStart = lineEnd + 1;
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,105 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass parser of the question line format {@code text;answer%true|answer%false}
+ * working directly over a char array. Quoted CSV fields are not supported.
+ */
+public final class PlainQuestionParser {
+
+    private static final char FIELD_SEPARATOR = ';';
+
+    private static final char ANSWERS_SEPARATOR = '|';
+
+    private static final char CORRECTNESS_SEPARATOR = '%';
+
+    private static final String TRUE = "true";
+
+    private static final int DEFAULT_ANSWERS_COUNT = 4;
+
+    public Question parse(CharSequence line) {
+        char[] chars = line.toString().toCharArray();
+        return parse(chars, 0, chars.length);
+    }
+
+    public Question parse(char[] chars, int from, int to) {
+        int end = skipTrailingLineBreak(chars, from, to);
+        int textStart = skipLeadingWhitespace(chars, from, end);
+        int textEnd = indexOf(chars, FIELD_SEPARATOR, textStart, end);
+        if (textEnd == end) {
+            throw parseError("answers are missing", chars, from, end);
+        }
+        int answersStart = skipLeadingWhitespace(chars, textEnd + 1, end);
+        int answersEnd = indexOf(chars, FIELD_SEPARATOR, answersStart, end);
+        if (answersStart == answersEnd) {
+            throw parseError("answers are missing", chars, from, end);
+        }
+
+        List<Answer> answers = new ArrayList<>(DEFAULT_ANSWERS_COUNT);
+        int answerStart = answersStart;
+        while (answerStart < answersEnd) {
+            int answerEnd = indexOf(chars, ANSWERS_SEPARATOR, answerStart, answersEnd);
+            answers.add(parseAnswer(chars, answerStart, answerEnd, from, end));
+            answerStart = answerEnd + 1;
+        }
+        return new Question(new String(chars, textStart, textEnd - textStart), answers);
+    }
+
+    private Answer parseAnswer(char[] chars, int from, int to, int lineFrom, int lineTo) {
+        int textEnd = indexOf(chars, CORRECTNESS_SEPARATOR, from, to);
+        if (textEnd == to) {
+            throw parseError("answer correctness is missing", chars, lineFrom, lineTo);
+        }
+        int flagStart = textEnd + 1;
+        int flagEnd = indexOf(chars, CORRECTNESS_SEPARATOR, flagStart, to);
+        return new Answer(new String(chars, from, textEnd - from), isTrue(chars, flagStart, flagEnd));
+    }
+
+    private static boolean isTrue(char[] chars, int from, int to) {
+        if (to - from != TRUE.length()) {
+            return false;
+        }
+        for (int i = 0; i < TRUE.length(); i++) {
+            if (Character.toLowerCase(chars[from + i]) != TRUE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(char[] chars, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chars[i] == c) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static int skipLeadingWhitespace(char[] chars, int from, int to) {
+        int i = from;
+        while (i < to && Character.isWhitespace(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipTrailingLineBreak(char[] chars, int from, int to) {
+        int i = to;
+        while (i > from && (chars[i - 1] == '\n' || chars[i - 1] == '\r')) {
+            i--;
+        }
+        return i;
+    }
+
+    private static QuestionReadException parseError(String reason, char[] chars, int from, int to) {
+        return new QuestionReadException("Error parsing question line (%s): %s"
+                .formatted(reason, new String(chars, from, to - from)));
+    }
+}
@@ -0,0 +1,6 @@
+package ru.otus.hw.dao;
+
+import java.nio.file.Path;
+
+public record QuestionBankCompilationResult(Path bankPath, int questionsCount, long sizeInBytes) {
+}
@@ -0,0 +1,119 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.QuestionBankPathProvider;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class QuestionBankCompiler {
+
+    private final TestFileNameProvider fileNameProvider;
+
+    private final QuestionBankPathProvider bankPathProvider;
+
+    public QuestionBankCompilationResult compile() {
+        String fileName = fileNameProvider.getTestFileName();
+        Path target = bankPathProvider.getQuestionBankPath();
+        try (var is = getClass().getClassLoader().getResourceAsStream(fileName)) {
+            if (is == null) {
+                throw new QuestionReadException("File not found: " + fileName);
+            }
+            var content = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(is.readAllBytes()));
+            var questions = PlainCsvQuestionDao.readQuestions(content);
+            long size = write(questions, target);
+            return new QuestionBankCompilationResult(target, questions.size(), size);
+        } catch (IOException e) {
+            throw new QuestionReadException("Error compiling %s to %s".formatted(fileName, target), e);
+        }
+    }
+
+    public static long write(List<Question> questions, Path target) throws IOException {
+        var strings = new StringTable();
+        var records = new ByteArrayOutputStream();
+        var recordsOut = new DataOutputStream(records);
+        int[] recordOffsets = new int[questions.size()];
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            recordOffsets[i] = recordsOut.size();
+            recordsOut.writeInt(strings.idOf(question.text()));
+            recordsOut.writeInt(question.answers().size());
+            for (Answer answer : question.answers()) {
+                recordsOut.writeInt(strings.idOf(answer.text()) << 1 | (answer.isCorrect() ? 1 : 0));
+            }
+        }
+
+        int questionTableOffset = QuestionBankFormat.HEADER_SIZE;
+        int recordsOffset = questionTableOffset + questions.size() * Integer.BYTES;
+        int stringTableOffset = Math.addExact(recordsOffset, recordsOut.size());
+        int stringDataOffset = stringTableOffset + (strings.size() + 1) * Integer.BYTES;
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path tmp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try (var out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(QuestionBankFormat.MAGIC);
+            out.writeInt(QuestionBankFormat.VERSION);
+            out.writeInt(questions.size());
+            out.writeInt(strings.size());
+            out.writeInt(questionTableOffset);
+            out.writeInt(stringTableOffset);
+            out.writeInt(stringDataOffset);
+            out.writeInt(0);
+            for (int recordOffset : recordOffsets) {
+                out.writeInt(recordsOffset + recordOffset);
+            }
+            records.writeTo(out);
+            int stringOffset = stringDataOffset;
+            for (byte[] bytes : strings.values()) {
+                out.writeInt(stringOffset);
+                stringOffset = Math.addExact(stringOffset, bytes.length);
+            }
+            out.writeInt(stringOffset);
+            for (byte[] bytes : strings.values()) {
+                out.write(bytes);
+            }
+        }
+        // Replace atomically so processes that already mapped the old bank keep a consistent view
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(target);
+    }
+
+    private static final class StringTable {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private final List<byte[]> values = new ArrayList<>();
+
+        int idOf(String value) {
+            return ids.computeIfAbsent(value, v -> {
+                values.add(v.getBytes(StandardCharsets.UTF_8));
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<byte[]> values() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.otus.hw.dao;
+
+/**
+ * Layout of the compiled question bank. All numbers are big-endian ints, offsets are absolute.
+ * <pre>
+ * header:          magic, version, questionCount, stringCount,
+ *                  questionTableOffset, stringTableOffset, stringDataOffset, reserved
+ * question table:  int[questionCount] offsets of question records
+ * string table:    int[stringCount + 1] offsets of UTF-8 strings in string data
+ * question record: textStringId, answerCount, answerCount * (answerStringId &lt;&lt; 1 | isCorrect)
+ * string data:     UTF-8 bytes of deduplicated strings
+ * </pre>
+ */
+final class QuestionBankFormat {
+
+    static final int MAGIC = 0x51424E4B;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 8 * Integer.BYTES;
+
+    static final int QUESTION_COUNT_POSITION = 2 * Integer.BYTES;
+
+    static final int STRING_COUNT_POSITION = 3 * Integer.BYTES;
+
+    static final int QUESTION_TABLE_POSITION = 4 * Integer.BYTES;
+
+    static final int STRING_TABLE_POSITION = 5 * Integer.BYTES;
+
+    static final int STRING_DATA_POSITION = 6 * Integer.BYTES;
+
+    private QuestionBankFormat() {
+    }
+}
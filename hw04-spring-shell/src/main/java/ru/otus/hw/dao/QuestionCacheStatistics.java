@@ -0,0 +1,4 @@
+package ru.otus.hw.dao;
+
+public record QuestionCacheStatistics(long hits, long misses, long reloads, int cachedLocalesCount) {
+}
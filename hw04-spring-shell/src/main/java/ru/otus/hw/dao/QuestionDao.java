@@ -2,8 +2,22 @@ package ru.otus.hw.dao;
 
 import ru.otus.hw.domain.Question;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface QuestionDao {
     List<Question> findAll();
+
+    /**
+     * Questions in file order. The stream may hold an open resource and must be closed by the caller.
+     */
+    default Stream<Question> streamAll() {
+        return findAll().stream();
+    }
+
+    default Optional<Path> findSourcePath() {
+        return Optional.empty();
+    }
 }
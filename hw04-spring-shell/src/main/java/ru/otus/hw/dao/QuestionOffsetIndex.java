@@ -0,0 +1,79 @@
+package ru.otus.hw.dao;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public final class QuestionOffsetIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    private final int count;
+
+    private QuestionOffsetIndex(long[] offsets, int[] lengths, int count) {
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.count = count;
+    }
+
+    public static QuestionOffsetIndex build(InputStream inputStream, int skipLines) throws IOException {
+        var is = new BufferedInputStream(inputStream);
+        long[] offsets = new long[INITIAL_CAPACITY];
+        int[] lengths = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        long position = 0;
+        long lineStart = 0;
+        int lineNumber = 0;
+        boolean blank = true;
+        int b;
+        while (true) {
+            b = is.read();
+            if (b == -1 || b == '\n') {
+                if (lineNumber >= skipLines && !blank) {
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        lengths = Arrays.copyOf(lengths, count * 2);
+                    }
+                    offsets[count] = lineStart;
+                    lengths[count] = Math.toIntExact(position - lineStart);
+                    count++;
+                }
+                if (b == -1) {
+                    break;
+                }
+                lineNumber++;
+                lineStart = position + 1;
+                blank = true;
+            } else if (b > ' ') {
+                blank = false;
+            }
+            position++;
+        }
+        return new QuestionOffsetIndex(offsets, lengths, count);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long offset(int index) {
+        return offsets[checkIndex(index)];
+    }
+
+    public int length(int index) {
+        return lengths[checkIndex(index)];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Question index %d out of range [0, %d)".formatted(index, count));
+        }
+        return index;
+    }
+}
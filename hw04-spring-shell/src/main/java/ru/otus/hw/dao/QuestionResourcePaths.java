@@ -0,0 +1,26 @@
+package ru.otus.hw.dao;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Optional;
+
+final class QuestionResourcePaths {
+
+    private static final String FILE_PROTOCOL = "file";
+
+    private QuestionResourcePaths() {
+    }
+
+    static Optional<Path> findFilePath(String resourceName) {
+        URL url = QuestionResourcePaths.class.getClassLoader().getResource(resourceName);
+        if (url == null || !FILE_PROTOCOL.equals(url.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(url.toURI()));
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+}
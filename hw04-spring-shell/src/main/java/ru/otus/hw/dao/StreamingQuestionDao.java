@@ -0,0 +1,19 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Question;
+
+import java.util.stream.Stream;
+
+public interface StreamingQuestionDao extends QuestionDao {
+
+    int count();
+
+    Question findByIndex(int index);
+
+    /**
+     * Lazily reads questions one by one, so only the current question is kept in memory.
+     * The returned stream holds an open resource and must be closed by the caller.
+     */
+    @Override
+    Stream<Question> streamAll();
+}
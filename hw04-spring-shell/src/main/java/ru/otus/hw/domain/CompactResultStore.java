@@ -0,0 +1,104 @@
+package ru.otus.hw.domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Append-only store of per-question correctness packed into a single {@code long[]},
+ * {@code ceil(questionsCount / 64)} words per result. Not thread-safe.
+ */
+public class CompactResultStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int questionsCount;
+
+    private final int wordsPerResult;
+
+    private long[] words;
+
+    private int size;
+
+    public CompactResultStore(int questionsCount) {
+        this.questionsCount = questionsCount;
+        this.wordsPerResult = Math.max(1, (questionsCount + Long.SIZE - 1) / Long.SIZE);
+        this.words = new long[INITIAL_CAPACITY * wordsPerResult];
+    }
+
+    public int add(BitSet rightAnswers) {
+        if (rightAnswers.length() > questionsCount) {
+            throw new IllegalArgumentException("Result has answers for %d questions, store is for %d"
+                    .formatted(rightAnswers.length(), questionsCount));
+        }
+        int offset = size * wordsPerResult;
+        if (offset + wordsPerResult > words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        long[] resultWords = rightAnswers.toLongArray();
+        System.arraycopy(resultWords, 0, words, offset, resultWords.length);
+        return size++;
+    }
+
+    public boolean isRightAnswer(int resultIndex, int questionIndex) {
+        checkIndex(resultIndex);
+        if (questionIndex < 0 || questionIndex >= questionsCount) {
+            throw new IndexOutOfBoundsException("Question index %d out of range [0, %d)"
+                    .formatted(questionIndex, questionsCount));
+        }
+        long word = words[resultIndex * wordsPerResult + questionIndex / Long.SIZE];
+        return (word & (1L << questionIndex)) != 0;
+    }
+
+    public int getRightAnswersCount(int resultIndex) {
+        checkIndex(resultIndex);
+        return rightAnswersCount(resultIndex);
+    }
+
+    /**
+     * Number of stored results with a right answer for each question, in one pass over the set bits.
+     */
+    public long[] countRightAnswersByQuestion() {
+        long[] counts = new long[questionsCount];
+        for (int i = 0; i < size * wordsPerResult; i++) {
+            int base = i % wordsPerResult * Long.SIZE;
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                counts[base + Long.numberOfTrailingZeros(word)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Number of stored results per right answers count, from {@code 0} to {@code questionsCount}.
+     */
+    public long[] countResultsByScore() {
+        long[] counts = new long[questionsCount + 1];
+        for (int i = 0; i < size; i++) {
+            counts[rightAnswersCount(i)]++;
+        }
+        return counts;
+    }
+
+    public int getQuestionsCount() {
+        return questionsCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int rightAnswersCount(int resultIndex) {
+        int count = 0;
+        int offset = resultIndex * wordsPerResult;
+        for (int i = 0; i < wordsPerResult; i++) {
+            count += Long.bitCount(words[offset + i]);
+        }
+        return count;
+    }
+
+    private void checkIndex(int resultIndex) {
+        if (resultIndex < 0 || resultIndex >= size) {
+            throw new IndexOutOfBoundsException("Result index %d out of range [0, %d)".formatted(resultIndex, size));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ru.otus.hw.domain;
+
+import java.time.Duration;
+
+public record GradingSummary(long sheetsCount, long passedCount, long failedCount, long invalidCount,
+                             Duration duration) {
+}
@@ -0,0 +1,57 @@
+package ru.otus.hw.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in milliseconds with power-of-two buckets.
+ * Bucket {@code b > 0} holds values from {@code 2^(b-1)} to {@code 2^b - 1}, bucket 0 holds zero.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS_COUNT = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        maxMillis.accumulateAndGet(value, Math::max);
+    }
+
+    public LatencyPercentiles getPercentiles() {
+        long[] snapshot = new long[BUCKETS_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        long max = maxMillis.get();
+        return new LatencyPercentiles(total,
+                percentile(snapshot, total, 0.5, max),
+                percentile(snapshot, total, 0.9, max),
+                percentile(snapshot, total, 0.99, max),
+                max);
+    }
+
+    private static long percentile(long[] snapshot, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            cumulative += snapshot[bucket];
+            if (cumulative >= rank) {
+                return Math.min(upperBound(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,4 @@
+package ru.otus.hw.domain;
+
+public record LatencyPercentiles(long count, long p50Millis, long p90Millis, long p99Millis, long maxMillis) {
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.domain;
+
+public record QuestionAnalytics(int questionIndex, String text, long answersCount, long rightAnswersCount,
+                                long[] answersCountByOption, LatencyPercentiles latency) {
+
+    public double getRightAnswersRate() {
+        return answersCount == 0 ? 0 : (double) rightAnswersCount / answersCount;
+    }
+}
@@ -0,0 +1,4 @@
+package ru.otus.hw.domain;
+
+public record ResultStatistics(long resultsCount, double[] rightAnswersRateByQuestion, long[] resultsCountByScore) {
+}
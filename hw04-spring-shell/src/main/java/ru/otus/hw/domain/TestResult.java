@@ -2,25 +2,27 @@ package ru.otus.hw.domain;
 
 import lombok.Data;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 
 @Data
 public class TestResult {
     private final Student student;
 
-    private final List<Question> answeredQuestions;
+    private final BitSet rightAnswers;
+
+    private int answeredQuestionsCount;
 
     private int rightAnswersCount;
 
     public TestResult(Student student) {
         this.student = student;
-        this.answeredQuestions = new ArrayList<>();
+        this.rightAnswers = new BitSet();
     }
 
-    public void applyAnswer(Question question, boolean isRightAnswer) {
-        answeredQuestions.add(question);
-        if (isRightAnswer) {
+    public void applyAnswer(int questionIndex, boolean isRightAnswer) {
+        answeredQuestionsCount = Math.max(answeredQuestionsCount, questionIndex + 1);
+        if (isRightAnswer && !rightAnswers.get(questionIndex)) {
+            rightAnswers.set(questionIndex);
             rightAnswersCount++;
         }
     }
@@ -0,0 +1,175 @@
+package ru.otus.hw.server;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.QuizServerConfig;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.service.LocalizedMessagesService;
+import ru.otus.hw.service.QuestionAnalyticsService;
+import ru.otus.hw.service.ResultStatisticsService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves quiz sessions over TCP, one line based session per connection. Every session gets its own IO,
+ * student and {@link ru.otus.hw.domain.TestResult} while sharing the question set and message source.
+ * Sessions run on a pool of small-stack platform threads bounded by {@code test.serverMaxSessions}, so the
+ * limit should stay at a count of threads the host can schedule, a few hundred rather than thousands.
+ * Idle pool threads exit after a minute.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizServer {
+
+    private static final long SESSION_STACK_SIZE = 256 * 1024;
+
+    private static final int IDLE_TIMEOUT_MILLIS = 10 * 60 * 1000;
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final LocalizedMessagesService messagesService;
+
+    private final QuestionDao questionDao;
+
+    private final TestConfig testConfig;
+
+    private final QuizServerConfig serverConfig;
+
+    private final ResultStatisticsService resultStatisticsService;
+
+    private final QuestionAnalyticsService questionAnalyticsService;
+
+    private final Set<Socket> activeSockets = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sessionCounter = new AtomicLong();
+
+    private final LongAdder completedSessions = new LongAdder();
+
+    private final LongAdder rejectedSessions = new LongAdder();
+
+    private volatile ServerSocket serverSocket;
+
+    private volatile ExecutorService sessionExecutor;
+
+    public synchronized QuizServerStatus start(int port) {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Quiz server is already running on port " + serverSocket.getLocalPort());
+        }
+        try {
+            var socket = new ServerSocket();
+            socket.bind(new InetSocketAddress(port), serverConfig.getServerMaxSessions());
+            int maxSessions = serverConfig.getServerMaxSessions();
+            var permits = new Semaphore(maxSessions);
+            var executor = new ThreadPoolExecutor(maxSessions, maxSessions,
+                    IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        var thread = new Thread(null, runnable, "quiz-session-" + sessionCounter.incrementAndGet(),
+                                SESSION_STACK_SIZE);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            sessionExecutor = executor;
+            serverSocket = socket;
+            var acceptor = new Thread(() -> acceptSessions(socket, permits, executor), "quiz-server-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+            log.info("Quiz server started on port {}", socket.getLocalPort());
+            return getStatus();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to start quiz server on port " + port, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+        closeQuietly(serverSocket);
+        activeSockets.forEach(QuizServer::closeQuietly);
+        sessionExecutor.shutdownNow();
+        serverSocket = null;
+        log.info("Quiz server stopped");
+    }
+
+    public QuizServerStatus getStatus() {
+        var socket = serverSocket;
+        return new QuizServerStatus(socket != null, socket != null ? socket.getLocalPort() : 0,
+                activeSockets.size(), serverConfig.getServerMaxSessions(),
+                completedSessions.sum(), rejectedSessions.sum());
+    }
+
+    /**
+     * Accepts connections of one server run. The permits and the executor are the ones created by the same
+     * {@link #start(int)} call, so sessions outliving a restart never release permits of the next run.
+     */
+    private void acceptSessions(ServerSocket socket, Semaphore permits, ExecutorService executor) {
+        while (!socket.isClosed()) {
+            try {
+                var clientSocket = socket.accept();
+                if (!permits.tryAcquire()) {
+                    reject(clientSocket);
+                    continue;
+                }
+                activeSockets.add(clientSocket);
+                executor.execute(() -> serve(clientSocket, permits));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Error accepting quiz session: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket clientSocket, Semaphore permits) {
+        try (clientSocket) {
+            clientSocket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            boolean completed = new QuizSession(clientSocket, messagesService, questionDao, testConfig,
+                    resultStatisticsService, questionAnalyticsService).run();
+            if (completed) {
+                completedSessions.increment();
+            }
+        } catch (IOException e) {
+            log.warn("Quiz session {} failed: {}", clientSocket.getRemoteSocketAddress(), e.getMessage());
+        } finally {
+            activeSockets.remove(clientSocket);
+            permits.release();
+        }
+    }
+
+    private void reject(Socket clientSocket) {
+        rejectedSessions.increment();
+        try (clientSocket) {
+            var printStream = new PrintStream(clientSocket.getOutputStream(), true, StandardCharsets.UTF_8);
+            printStream.println(messagesService.getMessage("QuizServer.server.busy"));
+        } catch (IOException e) {
+            log.debug("Error rejecting quiz session: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Error closing {}: {}", closeable, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package ru.otus.hw.server;
+
+public record QuizServerStatus(boolean running, int port, int activeSessions, int maxSessions,
+                               long completedSessions, long rejectedSessions) {
+}
@@ -0,0 +1,56 @@
+package ru.otus.hw.server;
+
+import lombok.RequiredArgsConstructor;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.service.BufferedStreamsIOService;
+import ru.otus.hw.service.LocalizedIOServiceImpl;
+import ru.otus.hw.service.LocalizedMessagesService;
+import ru.otus.hw.service.QuestionAnalyticsService;
+import ru.otus.hw.service.ResultServiceImpl;
+import ru.otus.hw.service.ResultStatisticsService;
+import ru.otus.hw.service.StudentServiceImpl;
+import ru.otus.hw.service.TestRunnerServiceImpl;
+import ru.otus.hw.service.TestServiceImpl;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wires the regular {@link TestRunnerServiceImpl} flow to a client socket: every connection gets its own IO,
+ * student and result services over the shared question set, message source and statistics. A client closing
+ * the connection before the quiz ends is a normal disconnect, not an error, and its result is not registered.
+ */
+@RequiredArgsConstructor
+public class QuizSession {
+
+    private final Socket socket;
+
+    private final LocalizedMessagesService messagesService;
+
+    private final QuestionDao questionDao;
+
+    private final TestConfig testConfig;
+
+    private final ResultStatisticsService resultStatisticsService;
+
+    private final QuestionAnalyticsService questionAnalyticsService;
+
+    /**
+     * @return {@code true} if the quiz was completed, {@code false} if the client disconnected or it failed
+     */
+    public boolean run() throws IOException {
+        var printStream = new PrintStream(socket.getOutputStream(), false, StandardCharsets.UTF_8);
+        var ioService = new LocalizedIOServiceImpl(messagesService,
+                new BufferedStreamsIOService(printStream, socket.getInputStream()));
+        var testRunnerService = new TestRunnerServiceImpl(
+                new TestServiceImpl(ioService, questionDao, questionAnalyticsService),
+                new StudentServiceImpl(ioService),
+                new ResultServiceImpl(testConfig, ioService),
+                ioService,
+                resultStatisticsService);
+        return testRunnerService.run();
+    }
+}
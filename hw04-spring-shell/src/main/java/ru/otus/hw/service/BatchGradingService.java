@@ -0,0 +1,14 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.GradingSummary;
+
+import java.nio.file.Path;
+
+public interface BatchGradingService {
+
+    /**
+     * Grades answer sheets {@code firstName;lastName;1|3|2} (answer numbers start from 1) and writes
+     * {@code firstName;lastName;rightAnswersCount;questionsCount;PASSED|FAILED} lines in the same order.
+     */
+    GradingSummary grade(Path answerSheets, Path results);
+}
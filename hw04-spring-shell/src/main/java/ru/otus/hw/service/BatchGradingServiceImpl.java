@@ -0,0 +1,203 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.GradingSummary;
+import ru.otus.hw.domain.Question;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Grades answer sheets {@code firstName;lastName;1|3|2} in parallel chunks. Blank and {@code #} comment lines are
+ * not sheets, every sheet gives exactly one result line in input order: {@code firstName;lastName;right;total;PASSED}
+ * or {@code FAILED}, and {@code <sheet>;INVALID} for a malformed sheet.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchGradingServiceImpl implements BatchGradingService {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final int IN_FLIGHT_CHUNKS_PER_THREAD = 2;
+
+    private static final char FIELD_SEPARATOR = ';';
+
+    private static final char ANSWERS_SEPARATOR = '|';
+
+    private static final int MAX_ANSWER_NUMBER = 10_000;
+
+    private static final String PASSED = "PASSED";
+
+    private static final String FAILED = "FAILED";
+
+    private static final String INVALID = "INVALID";
+
+    private final QuestionDao questionDao;
+
+    private final TestConfig testConfig;
+
+    @Override
+    public GradingSummary grade(Path answerSheets, Path results) {
+        long startTime = System.nanoTime();
+        var answerKey = answerKey(questionDao.findAll());
+        int rightAnswersCountToPass = testConfig.getRightAnswersCountToPass();
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        var pending = new ArrayDeque<Future<GradedChunk>>();
+        var total = new GradedChunk(new StringBuilder(), 0, 0, 0);
+        try (var reader = Files.newBufferedReader(answerSheets, StandardCharsets.UTF_8);
+             var writer = Files.newBufferedWriter(results, StandardCharsets.UTF_8)) {
+            String[] chunk;
+            while ((chunk = readChunk(reader)).length > 0) {
+                if (pending.size() == parallelism * IN_FLIGHT_CHUNKS_PER_THREAD) {
+                    total = total.add(write(pending.poll(), writer));
+                }
+                String[] lines = chunk;
+                pending.add(executor.submit(() -> gradeChunk(lines, answerKey, rightAnswersCountToPass)));
+            }
+            while (!pending.isEmpty()) {
+                total = total.add(write(pending.poll(), writer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error grading answer sheets " + answerSheets, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        var duration = Duration.ofNanos(System.nanoTime() - startTime);
+        return new GradingSummary(total.passedCount() + total.failedCount() + total.invalidCount(),
+                total.passedCount(), total.failedCount(), total.invalidCount(), duration);
+    }
+
+    private static GradedChunk gradeChunk(String[] lines, boolean[][] answerKey, int rightAnswersCountToPass) {
+        var output = new StringBuilder(lines.length * 32);
+        long passed = 0;
+        long failed = 0;
+        long invalid = 0;
+        for (String line : lines) {
+            int rightAnswersCount = gradeSheet(line, answerKey);
+            if (rightAnswersCount < 0) {
+                invalid++;
+                output.append(line).append(FIELD_SEPARATOR).append(INVALID).append('\n');
+                continue;
+            }
+            boolean isPassed = rightAnswersCount >= rightAnswersCountToPass;
+            if (isPassed) {
+                passed++;
+            } else {
+                failed++;
+            }
+            int answersStart = line.lastIndexOf(FIELD_SEPARATOR);
+            output.append(line, 0, answersStart + 1)
+                    .append(rightAnswersCount).append(FIELD_SEPARATOR)
+                    .append(answerKey.length).append(FIELD_SEPARATOR)
+                    .append(isPassed ? PASSED : FAILED).append('\n');
+        }
+        return new GradedChunk(output, passed, failed, invalid);
+    }
+
+    /**
+     * Returns right answers count or -1 when the sheet is malformed. Spaces may surround an answer number
+     * but not split it, {@code 1 2} is malformed rather than answer 12.
+     */
+    private static int gradeSheet(String line, boolean[][] answerKey) {
+        int firstNameEnd = line.indexOf(FIELD_SEPARATOR);
+        int lastNameEnd = firstNameEnd < 0 ? -1 : line.indexOf(FIELD_SEPARATOR, firstNameEnd + 1);
+        if (lastNameEnd < 0) {
+            return -1;
+        }
+        int rightAnswersCount = 0;
+        int questionIndex = 0;
+        int answerNumber = 0;
+        boolean hasDigits = false;
+        boolean numberEnded = false;
+        for (int i = lastNameEnd + 1; i <= line.length(); i++) {
+            char c = i < line.length() ? line.charAt(i) : ANSWERS_SEPARATOR;
+            if (c >= '0' && c <= '9' && answerNumber < MAX_ANSWER_NUMBER && !numberEnded) {
+                answerNumber = answerNumber * 10 + (c - '0');
+                hasDigits = true;
+            } else if (isWhitespace(c)) {
+                numberEnded = hasDigits;
+            } else if (c == ANSWERS_SEPARATOR && hasDigits && questionIndex < answerKey.length) {
+                boolean[] answers = answerKey[questionIndex];
+                if (answerNumber < 1 || answerNumber > answers.length) {
+                    return -1;
+                }
+                if (answers[answerNumber - 1]) {
+                    rightAnswersCount++;
+                }
+                questionIndex++;
+                answerNumber = 0;
+                hasDigits = false;
+                numberEnded = false;
+            } else {
+                return -1;
+            }
+        }
+        return questionIndex == answerKey.length ? rightAnswersCount : -1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static GradedChunk write(Future<GradedChunk> future, Writer writer) throws IOException {
+        try {
+            var chunk = future.get();
+            writer.append(chunk.output());
+            return chunk;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Grading was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error grading answer sheets", e.getCause());
+        }
+    }
+
+    private static String[] readChunk(BufferedReader reader) throws IOException {
+        var lines = new String[CHUNK_SIZE];
+        int count = 0;
+        String line;
+        while (count < CHUNK_SIZE && (line = reader.readLine()) != null) {
+            if (!line.isBlank() && line.charAt(0) != '#') {
+                lines[count++] = line;
+            }
+        }
+        return count == CHUNK_SIZE ? lines : Arrays.copyOf(lines, count);
+    }
+
+    private static boolean[][] answerKey(List<Question> questions) {
+        var answerKey = new boolean[questions.size()][];
+        for (int i = 0; i < questions.size(); i++) {
+            var answers = questions.get(i).answers();
+            answerKey[i] = new boolean[answers.size()];
+            for (int j = 0; j < answers.size(); j++) {
+                answerKey[i][j] = answers.get(j).isCorrect();
+            }
+        }
+        return answerKey;
+    }
+
+    private record GradedChunk(CharSequence output, long passedCount, long failedCount, long invalidCount) {
+
+        GradedChunk add(GradedChunk other) {
+            return new GradedChunk(output, passedCount + other.passedCount(),
+                    failedCount + other.failedCount(), invalidCount + other.invalidCount());
+        }
+    }
+}
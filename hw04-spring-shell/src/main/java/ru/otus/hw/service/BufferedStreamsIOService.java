@@ -0,0 +1,101 @@
+package ru.otus.hw.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+@Service
+@ConditionalOnProperty(prefix = "test.io", name = "buffered", havingValue = "true", matchIfMissing = true)
+public class BufferedStreamsIOService implements IOService {
+    private static final int MAX_ATTEMPTS = 10;
+
+    private static final int FLUSH_THRESHOLD = 8 * 1024;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final PrintStream printStream;
+
+    private final Scanner scanner;
+
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD);
+
+    private final Map<String, LineFormatTemplate> templates = new HashMap<>();
+
+    public BufferedStreamsIOService(@Value("#{T(System).out}") PrintStream printStream,
+                                    @Value("#{T(System).in}") InputStream inputStream) {
+
+        this.printStream = printStream;
+        this.scanner = new Scanner(inputStream);
+    }
+
+    @Override
+    public void printLine(String s) {
+        buffer.append(s).append(LINE_SEPARATOR);
+        flushIfFull();
+    }
+
+    @Override
+    public void printFormattedLine(String s, Object... args) {
+        templates.computeIfAbsent(s, LineFormatTemplate::compile).appendTo(buffer, args);
+        buffer.append(LINE_SEPARATOR);
+        flushIfFull();
+    }
+
+    @Override
+    public String readString() {
+        flush();
+        return scanner.nextLine();
+    }
+
+    @Override
+    public String readStringWithPrompt(String prompt) {
+        printLine(prompt);
+        return readString();
+    }
+
+    @Override
+    public int readIntForRange(int min, int max, String errorMessage) {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            try {
+                var stringValue = readString();
+                int intValue = Integer.parseInt(stringValue);
+                if (intValue < min || intValue > max) {
+                    throw new IllegalArgumentException();
+                }
+                return intValue;
+            } catch (IllegalArgumentException e) {
+                printLine(errorMessage);
+            }
+        }
+        flush();
+        throw new IllegalArgumentException("Error during reading int value");
+    }
+
+    @Override
+    public int readIntForRangeWithPrompt(int min, int max, String prompt, String errorMessage) {
+        printLine(prompt);
+        return readIntForRange(min, max, errorMessage);
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        printStream.print(buffer);
+        printStream.flush();
+        buffer.setLength(0);
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
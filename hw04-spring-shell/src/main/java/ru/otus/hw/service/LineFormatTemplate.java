@@ -0,0 +1,88 @@
+package ru.otus.hw.service;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Format string parsed once. Only flagless {@code %s}, {@code %d}, {@code %n} and {@code %%} are
+ * appended directly, any other specifier makes the template fall back to {@link String#format}.
+ */
+final class LineFormatTemplate {
+
+    private static final char STRING = 's';
+
+    private static final char DECIMAL = 'd';
+
+    private static final boolean ASCII_DIGITS =
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getZeroDigit() == '0';
+
+    private final String format;
+
+    private final String[] literals;
+
+    private final char[] conversions;
+
+    private LineFormatTemplate(String format, String[] literals, char[] conversions) {
+        this.format = format;
+        this.literals = literals;
+        this.conversions = conversions;
+    }
+
+    static LineFormatTemplate compile(String format) {
+        List<String> literals = new ArrayList<>();
+        var conversions = new StringBuilder();
+        var literal = new StringBuilder();
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            char conversion = i + 1 < format.length() ? format.charAt(i + 1) : 0;
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 'n') {
+                literal.append(System.lineSeparator());
+            } else if (conversion == STRING || conversion == DECIMAL) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                conversions.append(conversion);
+            } else {
+                return new LineFormatTemplate(format, null, null);
+            }
+            i += 2;
+        }
+        literals.add(literal.toString());
+        return new LineFormatTemplate(format, literals.toArray(String[]::new), conversions.toString().toCharArray());
+    }
+
+    void appendTo(StringBuilder sb, Object... args) {
+        if (literals == null || args.length < conversions.length || !isPlain(args)) {
+            sb.append(String.format(format, args));
+            return;
+        }
+        for (int i = 0; i < conversions.length; i++) {
+            sb.append(literals[i]).append(args[i]);
+        }
+        sb.append(literals[conversions.length]);
+    }
+
+    private boolean isPlain(Object[] args) {
+        for (int i = 0; i < conversions.length; i++) {
+            Object arg = args[i];
+            boolean plain = conversions[i] == STRING
+                    ? !(arg instanceof Formattable)
+                    : ASCII_DIGITS && (arg instanceof Integer || arg instanceof Long
+                    || arg instanceof Short || arg instanceof Byte);
+            if (!plain) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -41,6 +41,11 @@ public class LocalizedIOServiceImpl implements LocalizedIOService {
         return ioService.readIntForRangeWithPrompt(min, max, prompt, errorMessage);
     }
 
+    @Override
+    public void flush() {
+        ioService.flush();
+    }
+
     @Override
     public void printLineLocalized(String code) {
         ioService.printLine(localizedMessagesService.getMessage(code));
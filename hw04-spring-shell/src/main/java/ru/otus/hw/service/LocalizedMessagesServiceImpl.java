@@ -1,12 +1,16 @@
 package ru.otus.hw.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import ru.otus.hw.config.LocaleConfig;
 
 @RequiredArgsConstructor
+@Primary
 @Service
+@ConditionalOnProperty(prefix = "test.messages", name = "precompiled", havingValue = "false")
 public class LocalizedMessagesServiceImpl implements LocalizedMessagesService {
 
     private final LocaleConfig localeConfig;
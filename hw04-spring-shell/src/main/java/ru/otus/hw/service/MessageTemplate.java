@@ -0,0 +1,112 @@
+package ru.otus.hw.service;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Message pattern parsed once. Patterns made only of literal text and {@code {n}} placeholders are
+ * formatted by plain concatenation while arguments are not numbers or dates, the rest goes through
+ * a clone of the pre-parsed {@link MessageFormat}.
+ */
+final class MessageTemplate {
+
+    private final String pattern;
+
+    private final MessageFormat prototype;
+
+    private final String[] literals;
+
+    private final int[] argumentIndexes;
+
+    private final int literalsLength;
+
+    private MessageTemplate(String pattern, MessageFormat prototype, String[] literals, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.prototype = prototype;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int length = 0;
+        if (literals != null) {
+            for (String literal : literals) {
+                length += literal.length();
+            }
+        }
+        this.literalsLength = length;
+    }
+
+    static MessageTemplate compile(String pattern, Locale locale) {
+        var prototype = new MessageFormat(pattern, locale);
+        if (pattern.indexOf('\'') >= 0) {
+            return new MessageTemplate(pattern, prototype, null, null);
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '}') {
+                return new MessageTemplate(pattern, prototype, null, null);
+            }
+            if (c != '{') {
+                i++;
+                continue;
+            }
+            int end = pattern.indexOf('}', i);
+            if (end < 0 || end == i + 1 || !isDigits(pattern, i + 1, end)) {
+                return new MessageTemplate(pattern, prototype, null, null);
+            }
+            literals.add(pattern.substring(literalStart, i));
+            indexes.add(Integer.parseInt(pattern, i + 1, end, 10));
+            literalStart = end + 1;
+            i = end + 1;
+        }
+        literals.add(pattern.substring(literalStart));
+        return new MessageTemplate(pattern, prototype, literals.toArray(String[]::new),
+                indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    String format(Object... args) {
+        if (args == null || args.length == 0) {
+            return pattern;
+        }
+        if (literals == null || !isPlain(args)) {
+            return ((MessageFormat) prototype.clone()).format(args);
+        }
+        if (argumentIndexes.length == 1 && argumentIndexes[0] < args.length) {
+            return literals[0] + args[argumentIndexes[0]] + literals[1];
+        }
+        var sb = new StringBuilder(literalsLength + args.length * 16);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            sb.append(literals[i]);
+            int index = argumentIndexes[i];
+            if (index < args.length) {
+                sb.append(args[index]);
+            } else {
+                sb.append('{').append(index).append('}');
+            }
+        }
+        return sb.append(literals[argumentIndexes.length]).toString();
+    }
+
+    private boolean isPlain(Object[] args) {
+        for (int index : argumentIndexes) {
+            if (index < args.length && (args[index] instanceof Number || args[index] instanceof Date)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package ru.otus.hw.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.LocaleConfig;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "test.messages", name = "precompiled", havingValue = "true", matchIfMissing = true)
+public class PrecompiledMessagesServiceImpl implements LocalizedMessagesService {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    private final LocaleConfig localeConfig;
+
+    private final MessageSource messageSource;
+
+    private final String baseName;
+
+    private final Charset encoding;
+
+    private final Map<Locale, Map<String, MessageTemplate>> templatesByLocale = new ConcurrentHashMap<>();
+
+    public PrecompiledMessagesServiceImpl(LocaleConfig localeConfig, MessageSource messageSource,
+                                          @Value("${spring.messages.basename:messages}") String baseName,
+                                          @Value("${spring.messages.encoding:UTF-8}") Charset encoding) {
+        this.localeConfig = localeConfig;
+        this.messageSource = messageSource;
+        this.baseName = baseName;
+        this.encoding = encoding;
+        templates(localeConfig.getLocale());
+    }
+
+    @Override
+    public String getMessage(String code, Object... args) {
+        Locale locale = localeConfig.getLocale();
+        var template = templates(locale).get(code);
+        if (template == null) {
+            return messageSource.getMessage(code, args, locale);
+        }
+        return template.format(args);
+    }
+
+    private Map<String, MessageTemplate> templates(Locale locale) {
+        return templatesByLocale.computeIfAbsent(locale, this::compile);
+    }
+
+    private Map<String, MessageTemplate> compile(Locale locale) {
+        var messages = new Properties();
+        for (String bundleName : bundleNames(locale)) {
+            try (var is = getClass().getClassLoader().getResourceAsStream(bundleName + PROPERTIES_SUFFIX)) {
+                if (is != null) {
+                    messages.load(new InputStreamReader(is, encoding));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading messages bundle " + bundleName, e);
+            }
+        }
+        Map<String, MessageTemplate> templates = new HashMap<>();
+        messages.forEach((code, pattern) ->
+                templates.put((String) code, MessageTemplate.compile((String) pattern, locale)));
+        return Map.copyOf(templates);
+    }
+
+    private List<String> bundleNames(Locale locale) {
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        if (language.isEmpty()) {
+            return List.of(baseName);
+        }
+        if (country.isEmpty()) {
+            return List.of(baseName, baseName + "_" + language);
+        }
+        return List.of(baseName, baseName + "_" + language, baseName + "_" + language + "_" + country);
+    }
+}
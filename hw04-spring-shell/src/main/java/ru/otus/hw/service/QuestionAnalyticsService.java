@@ -0,0 +1,16 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.LatencyPercentiles;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionAnalytics;
+
+import java.util.List;
+
+public interface QuestionAnalyticsService {
+    void recordAnswer(int questionIndex, Question question, int answerIndex, boolean isRightAnswer,
+                      long latencyNanos);
+
+    List<QuestionAnalytics> findHardestQuestions(int count);
+
+    LatencyPercentiles getLatencyPercentiles();
+}
@@ -0,0 +1,125 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.domain.LatencyHistogram;
+import ru.otus.hw.domain.LatencyPercentiles;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionAnalytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free per-question counters keyed by locale and question position. A question that comes back with
+ * a different number of answer options, after the bank was edited, restarts the counters of its position.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionAnalyticsServiceImpl implements QuestionAnalyticsService {
+
+    private static final Comparator<QuestionAnalytics> HARDEST_FIRST = Comparator
+            .comparingDouble(QuestionAnalytics::getRightAnswersRate)
+            .thenComparing(Comparator.comparingLong(QuestionAnalytics::answersCount).reversed())
+            .thenComparingInt(QuestionAnalytics::questionIndex);
+
+    private final LocaleConfig localeConfig;
+
+    private final Map<QuestionKey, QuestionCounters> countersByQuestion = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+
+    /**
+     * The option counter is incremented before the right answers counter, and {@link #findHardestQuestions}
+     * reads them in the opposite order, so a snapshot never has more right answers than answers.
+     */
+    @Override
+    public void recordAnswer(int questionIndex, Question question, int answerIndex, boolean isRightAnswer,
+                             long latencyNanos) {
+        var counters = counters(new QuestionKey(localeConfig.getLocale(), questionIndex), question);
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        counters.answersByOption.incrementAndGet(answerIndex);
+        if (isRightAnswer) {
+            counters.rightAnswers.increment();
+        }
+        counters.latency.record(latencyMillis);
+        totalLatency.record(latencyMillis);
+    }
+
+    @Override
+    public List<QuestionAnalytics> findHardestQuestions(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        var easiestOnTop = new PriorityQueue<>(count + 1, HARDEST_FIRST.reversed());
+        countersByQuestion.forEach((key, counters) -> {
+            var analytics = counters.toAnalytics(key.index());
+            if (analytics.answersCount() == 0) {
+                return;
+            }
+            easiestOnTop.add(analytics);
+            if (easiestOnTop.size() > count) {
+                easiestOnTop.poll();
+            }
+        });
+        var hardest = new ArrayList<>(easiestOnTop);
+        hardest.sort(HARDEST_FIRST);
+        return hardest;
+    }
+
+    @Override
+    public LatencyPercentiles getLatencyPercentiles() {
+        return totalLatency.getPercentiles();
+    }
+
+    private QuestionCounters counters(QuestionKey key, Question question) {
+        int optionsCount = question.answers().size();
+        var counters = countersByQuestion.get(key);
+        if (counters != null && counters.answersByOption.length() == optionsCount) {
+            return counters;
+        }
+        return countersByQuestion.compute(key, (k, current) ->
+                current != null && current.answersByOption.length() == optionsCount ? current
+                        : new QuestionCounters(question.text(), optionsCount));
+    }
+
+    private record QuestionKey(Locale locale, int index) {
+    }
+
+    private static final class QuestionCounters {
+
+        private final String text;
+
+        private final AtomicLongArray answersByOption;
+
+        private final LongAdder rightAnswers = new LongAdder();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private QuestionCounters(String text, int optionsCount) {
+            this.text = text;
+            this.answersByOption = new AtomicLongArray(optionsCount);
+        }
+
+        private QuestionAnalytics toAnalytics(int index) {
+            long rightAnswersCount = rightAnswers.sum();
+            long[] answers = new long[answersByOption.length()];
+            long answersCount = 0;
+            for (int i = 0; i < answers.length; i++) {
+                answers[i] = answersByOption.get(i);
+                answersCount += answers[i];
+            }
+            return new QuestionAnalytics(index, text, answersCount, rightAnswersCount, answers,
+                    latency.getPercentiles());
+        }
+    }
+}
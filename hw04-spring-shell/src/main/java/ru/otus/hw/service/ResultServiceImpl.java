@@ -20,7 +20,7 @@ public class ResultServiceImpl implements ResultService {
         ioService.printFormattedLineLocalized("ResultService.student",
                 testResult.getStudent().getFullName());
         ioService.printFormattedLineLocalized("ResultService.answered.questions.count",
-                testResult.getAnsweredQuestions().size());
+                testResult.getAnsweredQuestionsCount());
         ioService.printFormattedLineLocalized("ResultService.right.answers.count",
                 testResult.getRightAnswersCount());
 
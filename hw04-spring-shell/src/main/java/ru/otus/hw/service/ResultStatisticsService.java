@@ -0,0 +1,15 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.ResultStatistics;
+import ru.otus.hw.domain.TestResult;
+
+public interface ResultStatisticsService {
+    void register(TestResult testResult);
+
+    /**
+     * Statistics of the question count that received the latest result.
+     */
+    ResultStatistics getStatistics();
+
+    ResultStatistics getStatistics(int questionsCount);
+}
@@ -0,0 +1,49 @@
+package ru.otus.hw.service;
+
+import org.springframework.stereotype.Service;
+import ru.otus.hw.domain.CompactResultStore;
+import ru.otus.hw.domain.ResultStatistics;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Retains every registered result in a {@link CompactResultStore} per questions count,
+ * {@code ceil(questionsCount / 64) * 8} bytes per result, and computes the statistics view from the stores on demand.
+ */
+@Service
+public class ResultStatisticsServiceImpl implements ResultStatisticsService {
+
+    private final Map<Integer, CompactResultStore> storesByQuestionsCount = new HashMap<>();
+
+    private int lastQuestionsCount;
+
+    @Override
+    public synchronized void register(TestResult testResult) {
+        int questionsCount = testResult.getAnsweredQuestionsCount();
+        storesByQuestionsCount.computeIfAbsent(questionsCount, CompactResultStore::new)
+                .add(testResult.getRightAnswers());
+        lastQuestionsCount = questionsCount;
+    }
+
+    @Override
+    public synchronized ResultStatistics getStatistics() {
+        return getStatistics(lastQuestionsCount);
+    }
+
+    @Override
+    public synchronized ResultStatistics getStatistics(int questionsCount) {
+        var store = storesByQuestionsCount.get(questionsCount);
+        if (store == null) {
+            return new ResultStatistics(0, new double[questionsCount], new long[questionsCount + 1]);
+        }
+        long resultsCount = store.size();
+        long[] rightAnswersByQuestion = store.countRightAnswersByQuestion();
+        double[] rates = new double[rightAnswersByQuestion.length];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = resultsCount == 0 ? 0 : (double) rightAnswersByQuestion[i] / resultsCount;
+        }
+        return new ResultStatistics(resultsCount, rates, store.countResultsByScore());
+    }
+}
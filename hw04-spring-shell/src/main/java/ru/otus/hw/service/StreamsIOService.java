@@ -1,6 +1,7 @@
 package ru.otus.hw.service;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
@@ -8,6 +9,7 @@ import java.io.PrintStream;
 import java.util.Scanner;
 
 @Service
+@ConditionalOnProperty(prefix = "test.io", name = "buffered", havingValue = "false")
 public class StreamsIOService implements IOService {
     private static final int MAX_ATTEMPTS = 10;
 
@@ -1,5 +1,8 @@
 package ru.otus.hw.service;
 
 public interface TestRunnerService {
-    void run();
+    /**
+     * @return {@code true} if the test was completed, {@code false} if the input ended before or it failed
+     */
+    boolean run();
 }
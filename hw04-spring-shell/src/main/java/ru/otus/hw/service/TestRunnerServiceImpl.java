@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.NoSuchElementException;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -17,15 +19,25 @@ public class TestRunnerServiceImpl implements TestRunnerService {
 
     private final LocalizedIOService ioService;
 
+    private final ResultStatisticsService resultStatisticsService;
+
     @Override
-    public void run() {
+    public boolean run() {
         try {
             var student = studentService.determineCurrentStudent();
             var testResult = testService.executeTestFor(student);
             resultService.showResult(testResult);
+            resultStatisticsService.register(testResult);
+            return true;
+        } catch (NoSuchElementException e) {
+            log.debug("Input ended before the test was finished");
+            return false;
         } catch (Exception e) {
             log.error("Error: {}", e.getMessage(), e);
             ioService.printLineLocalized("error.message");
+            return false;
+        } finally {
+            ioService.flush();
         }
     }
 }
@@ -18,23 +18,26 @@ public class TestServiceImpl implements TestService {
 
     private final QuestionDao questionDao;
 
+    private final QuestionAnalyticsService questionAnalyticsService;
+
     @Override
     public TestResult executeTestFor(Student student) {
         ioService.printLine("");
         ioService.printLineLocalized("TestService.answer.the.questions");
         ioService.printLine("");
 
-        var questions = questionDao.findAll();
         var testResult = new TestResult(student);
-
-        for (Question question : questions) {
-            boolean isRight = processQuestion(question);
-            testResult.applyAnswer(question, isRight);
+        try (var questions = questionDao.streamAll()) {
+            var iterator = questions.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                boolean isRight = processQuestion(i, iterator.next());
+                testResult.applyAnswer(i, isRight);
+            }
         }
         return testResult;
     }
 
-    private boolean processQuestion(Question question) {
+    private boolean processQuestion(int questionIndex, Question question) {
         ioService.printLine(question.text());
         List<Answer> answers = question.answers();
 
@@ -42,12 +45,16 @@ public class TestServiceImpl implements TestService {
             ioService.printFormattedLine("%d: %s", i + 1, answers.get(i).text());
         }
 
+        long startNanos = System.nanoTime();
         int userChoice = ioService.readIntForRangeWithPromptLocalized(
                 1, answers.size(),
                 "TestService.select.answer",
                 "TestService.answer.number.out.of.range"
         ) - 1;
 
-        return answers.get(userChoice).isCorrect();
+        boolean isRight = answers.get(userChoice).isCorrect();
+        questionAnalyticsService.recordAnswer(questionIndex, question, userChoice, isRight,
+                System.nanoTime() - startNanos);
+        return isRight;
     }
 }
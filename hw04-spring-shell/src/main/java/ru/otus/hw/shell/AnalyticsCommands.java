@@ -0,0 +1,51 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.domain.LatencyPercentiles;
+import ru.otus.hw.service.QuestionAnalyticsService;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class AnalyticsCommands {
+
+    private final QuestionAnalyticsService questionAnalyticsService;
+
+    @ShellMethod(value = "Show questions with the lowest right answers rate", key = "questions-hardest")
+    public String showHardestQuestions(@ShellOption(defaultValue = "5") int count) {
+        var hardest = questionAnalyticsService.findHardestQuestions(count);
+        if (hardest.isEmpty()) {
+            return "No answers recorded yet";
+        }
+        var sb = new StringBuilder();
+        for (var question : hardest) {
+            sb.append("Question #%d: %s".formatted(question.questionIndex() + 1, question.text()))
+                    .append(System.lineSeparator())
+                    .append("  right answers: %.1f%% of %d".formatted(question.getRightAnswersRate() * 100,
+                            question.answersCount()))
+                    .append(System.lineSeparator())
+                    .append("  answers by option:");
+            var answers = question.answersCountByOption();
+            for (int i = 0; i < answers.length; i++) {
+                sb.append(" %d=%d".formatted(i + 1, answers[i]));
+            }
+            sb.append(System.lineSeparator())
+                    .append("  latency: ").append(format(question.latency()))
+                    .append(System.lineSeparator());
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    @ShellMethod(value = "Show answer latency percentiles over all questions", key = "answers-latency")
+    public String showAnswersLatency() {
+        var latency = questionAnalyticsService.getLatencyPercentiles();
+        return "Answers: %d, latency: %s".formatted(latency.count(), format(latency));
+    }
+
+    private static String format(LatencyPercentiles latency) {
+        return "p50 <= %d ms, p90 <= %d ms, p99 <= %d ms, max %d ms"
+                .formatted(latency.p50Millis(), latency.p90Millis(), latency.p99Millis(), latency.maxMillis());
+    }
+}
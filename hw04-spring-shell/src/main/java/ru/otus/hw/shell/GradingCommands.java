@@ -0,0 +1,23 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.service.BatchGradingService;
+
+import java.nio.file.Path;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class GradingCommands {
+
+    private final BatchGradingService batchGradingService;
+
+    @ShellMethod(value = "Grade answer sheets file (firstName;lastName;1|3|2 per line)", key = "grade")
+    public String grade(@ShellOption String input, @ShellOption String output) {
+        var summary = batchGradingService.grade(Path.of(input), Path.of(output));
+        return "Graded %d sheets in %d ms: passed %d, failed %d, invalid %d".formatted(summary.sheetsCount(),
+                summary.duration().toMillis(), summary.passedCount(), summary.failedCount(), summary.invalidCount());
+    }
+}
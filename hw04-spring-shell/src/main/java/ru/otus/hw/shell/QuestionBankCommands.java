@@ -0,0 +1,20 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.dao.QuestionBankCompiler;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class QuestionBankCommands {
+
+    private final QuestionBankCompiler questionBankCompiler;
+
+    @ShellMethod(value = "Compile questions file of the current locale to binary question bank", key = "compile-bank")
+    public String compileBank() {
+        var result = questionBankCompiler.compile();
+        return "Compiled %d questions to %s (%d bytes)"
+                .formatted(result.questionsCount(), result.bankPath().toAbsolutePath(), result.sizeInBytes());
+    }
+}
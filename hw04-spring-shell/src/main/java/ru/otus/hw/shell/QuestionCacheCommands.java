@@ -0,0 +1,25 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.dao.CachingQuestionDao;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class QuestionCacheCommands {
+
+    private final ObjectProvider<CachingQuestionDao> cachingQuestionDao;
+
+    @ShellMethod(value = "Show questions cache hits, misses and reloads", key = "question-cache-stats")
+    public String showQuestionCacheStatistics() {
+        var dao = cachingQuestionDao.getIfAvailable();
+        if (dao == null) {
+            return "Questions cache is disabled";
+        }
+        var statistics = dao.getStatistics();
+        return "Cached locales: %d, hits: %d, misses: %d, reloads: %d".formatted(statistics.cachedLocalesCount(),
+                statistics.hits(), statistics.misses(), statistics.reloads());
+    }
+}
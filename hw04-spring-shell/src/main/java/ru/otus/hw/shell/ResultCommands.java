@@ -0,0 +1,34 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.service.ResultStatisticsService;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class ResultCommands {
+
+    private final ResultStatisticsService resultStatisticsService;
+
+    @ShellMethod(value = "Show right answers rate per question and score histogram", key = "results-stats")
+    public String showResultStatistics(@ShellOption(defaultValue = ShellOption.NULL) Integer questions) {
+        if (questions != null && questions < 0) {
+            return "Questions count must not be negative but was %d".formatted(questions);
+        }
+        var statistics = questions == null ? resultStatisticsService.getStatistics()
+                : resultStatisticsService.getStatistics(questions);
+        var sb = new StringBuilder("Results count: ").append(statistics.resultsCount()).append(System.lineSeparator());
+        var rates = statistics.rightAnswersRateByQuestion();
+        for (int i = 0; i < rates.length; i++) {
+            sb.append("Question #%d right answers: %.1f%%".formatted(i + 1, rates[i] * 100))
+                    .append(System.lineSeparator());
+        }
+        var histogram = statistics.resultsCountByScore();
+        for (int score = 0; score < histogram.length; score++) {
+            sb.append("Score %d: %d".formatted(score, histogram[score])).append(System.lineSeparator());
+        }
+        return sb.toString().stripTrailing();
+    }
+}
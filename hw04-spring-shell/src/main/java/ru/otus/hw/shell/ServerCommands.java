@@ -0,0 +1,44 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.config.QuizServerConfig;
+import ru.otus.hw.server.QuizServer;
+import ru.otus.hw.server.QuizServerStatus;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class ServerCommands {
+
+    private final QuizServer quizServer;
+
+    private final QuizServerConfig serverConfig;
+
+    @ShellMethod(value = "Start quiz server for concurrent student sessions", key = "server-start")
+    public String startServer(@ShellOption(defaultValue = ShellOption.NULL) Integer port) {
+        return format(quizServer.start(port != null ? port : serverConfig.getServerPort()));
+    }
+
+    @ShellMethod(value = "Stop quiz server", key = "server-stop")
+    public String stopServer() {
+        quizServer.stop();
+        return format(quizServer.getStatus());
+    }
+
+    @ShellMethod(value = "Show quiz server status", key = "server-status")
+    public String showServerStatus() {
+        return format(quizServer.getStatus());
+    }
+
+    private static String format(QuizServerStatus status) {
+        if (!status.running()) {
+            return "Quiz server is stopped. Completed sessions: %d, rejected sessions: %d"
+                    .formatted(status.completedSessions(), status.rejectedSessions());
+        }
+        return "Quiz server is running on port %d. Active sessions: %d/%d, completed: %d, rejected: %d"
+                .formatted(status.port(), status.activeSessions(), status.maxSessions(),
+                        status.completedSessions(), status.rejectedSessions());
+    }
+}
@@ -0,0 +1,114 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingQuestionDaoTest {
+
+    private static final Question FIRST = new Question("Q1", List.of(new Answer("A", true)));
+
+    private static final Question SECOND = new Question("Q2", List.of(new Answer("B", false)));
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private QuestionDao source;
+
+    @Mock
+    private LocaleConfig localeConfig;
+
+    private CachingQuestionDao dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new CachingQuestionDao(source, localeConfig);
+        lenient().when(localeConfig.getLocale()).thenReturn(Locale.forLanguageTag("en-US"));
+        lenient().when(source.findAll()).thenReturn(List.of(FIRST));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dao.close();
+    }
+
+    @Test
+    void findAll_ShouldParseOncePerLocale() {
+        dao.findAll();
+        dao.findAll();
+        when(localeConfig.getLocale()).thenReturn(Locale.forLanguageTag("ru-RU"));
+        dao.findAll();
+        dao.findAll();
+
+        verify(source, times(2)).findAll();
+        assertThat(dao.getStatistics()).isEqualTo(new QuestionCacheStatistics(2, 2, 0, 2));
+    }
+
+    @Test
+    void findAll_ShouldReturnImmutableQuestions() {
+        when(source.findAll()).thenReturn(List.of(new Question("Q", new ArrayList<>(FIRST.answers()))));
+
+        var questions = dao.findAll();
+
+        assertThatThrownBy(() -> questions.get(0).answers().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void findAll_ShouldReloadWhenSourceFileContentChanges() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("questions.csv"), "first");
+        when(source.findSourcePath()).thenReturn(Optional.of(file));
+        assertThat(dao.findAll()).containsExactly(FIRST);
+
+        when(source.findAll()).thenReturn(List.of(SECOND));
+        Files.writeString(file, "second");
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(dao.findAll()).containsExactly(SECOND));
+        assertThat(dao.getStatistics().reloads()).isEqualTo(1);
+        assertThat(dao.getStatistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void streamAll_ShouldPassStreamingSourceThroughWithoutCopying() {
+        StreamingQuestionDao streamingSource = mock(StreamingQuestionDao.class);
+        when(streamingSource.streamAll()).thenAnswer(invocation -> Stream.of(FIRST, SECOND));
+        var streamingDao = new CachingQuestionDao(streamingSource, localeConfig);
+
+        try (var questions = streamingDao.streamAll()) {
+            assertThat(questions).containsExactly(FIRST, SECOND);
+        }
+        try (var questions = streamingDao.streamAll()) {
+            assertThat(questions).containsExactly(FIRST, SECOND);
+        }
+
+        verify(streamingSource, times(2)).streamAll();
+        assertThat(streamingDao.getStatistics().cachedLocalesCount()).isZero();
+    }
+}
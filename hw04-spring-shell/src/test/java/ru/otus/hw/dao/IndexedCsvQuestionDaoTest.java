@@ -0,0 +1,91 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = IndexedCsvQuestionDao.class, properties = "test.dao.mode=indexed")
+class IndexedCsvQuestionDaoTest {
+
+    @MockitoBean
+    private TestFileNameProvider fileNameProvider;
+
+    @Autowired
+    private IndexedCsvQuestionDao dao;
+
+    @BeforeEach
+    void setUp() {
+        when(fileNameProvider.getTestFileName()).thenReturn("test-questions.csv");
+    }
+
+    @Test
+    void findAll_ShouldReturnSameQuestionsAsCsvBinding() {
+        List<Question> expected = new CsvQuestionDao(fileNameProvider).findAll();
+
+        assertThat(dao.findAll()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void streamAll_ShouldReadQuestionsLazily() {
+        try (var questions = dao.streamAll()) {
+            assertThat(questions.limit(2).map(Question::text))
+                    .containsExactly("Is there life on Mars?", "How should resources be loaded form jar in Java?");
+        }
+    }
+
+    @Test
+    void findByIndex_ShouldSeekToQuestion() {
+        assertEquals(6, dao.count());
+
+        Question last = dao.findByIndex(5);
+        assertEquals("Is Java a compiled language?", last.text());
+        assertThat(last.answers()).containsExactly(
+                new Answer("Yes, it is compiled to bytecode", true),
+                new Answer("No, it's interpreted", false),
+                new Answer("Only in Spring Boot", false)
+        );
+        assertEquals("What is the capital of France?", dao.findByIndex(3).text());
+    }
+
+    @Test
+    void findByIndex_ShouldFailForIndexOutOfRange() {
+        assertThatThrownBy(() -> dao.findByIndex(6)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void findByIndex_ShouldReindexChangedFileOnCount() throws Exception {
+        Path testQuestions = Path.of(getClass().getClassLoader().getResource("test-questions.csv").toURI());
+        Path file = testQuestions.resolveSibling("indexed-reload-questions.csv");
+        when(fileNameProvider.getTestFileName()).thenReturn(file.getFileName().toString());
+        try {
+            Files.writeString(file, "header\nFirst?;Yes%true\n");
+            assertEquals(1, dao.count());
+            assertEquals("First?", dao.findByIndex(0).text());
+
+            Files.writeString(file, "header\nA much longer first question?;Yes%true\nSecond?;No%false\n");
+            Files.setLastModifiedTime(file,
+                    FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+            assertEquals(2, dao.count());
+            assertEquals("A much longer first question?", dao.findByIndex(0).text());
+            assertEquals("Second?", dao.findByIndex(1).text());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
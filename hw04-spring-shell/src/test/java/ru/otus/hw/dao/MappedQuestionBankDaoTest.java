@@ -0,0 +1,131 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.config.QuestionBankPathProvider;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {MappedQuestionBankDao.class, QuestionBankCompiler.class},
+        properties = "test.dao.mode=bank")
+class MappedQuestionBankDaoTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @MockitoBean
+    private TestFileNameProvider fileNameProvider;
+
+    @MockitoBean
+    private QuestionBankPathProvider bankPathProvider;
+
+    @Autowired
+    private QuestionBankCompiler compiler;
+
+    @Autowired
+    private MappedQuestionBankDao dao;
+
+    private Path bankPath;
+
+    @BeforeEach
+    void setUp() {
+        bankPath = tempDir.resolve("test-questions.qbank");
+        when(fileNameProvider.getTestFileName()).thenReturn("test-questions.csv");
+        when(bankPathProvider.getQuestionBankPath()).thenReturn(bankPath);
+    }
+
+    @Test
+    void findAll_ShouldReturnSameQuestionsAsCsvBinding() {
+        var result = compiler.compile();
+
+        assertEquals(6, result.questionsCount());
+        assertThat(bankPath).exists();
+        assertThat(dao.findAll()).containsExactlyElementsOf(new CsvQuestionDao(fileNameProvider).findAll());
+    }
+
+    @Test
+    void findByIndex_ShouldDecodeSingleQuestion() {
+        compiler.compile();
+
+        assertEquals(6, dao.count());
+        Question question = dao.findByIndex(3);
+        assertEquals("What is the capital of France?", question.text());
+        assertThat(question.answers()).containsExactly(
+                new Answer("Paris", true),
+                new Answer("Berlin", false),
+                new Answer("Madrid", false)
+        );
+    }
+
+    @Test
+    void findAll_ShouldRemapRecompiledBank() throws Exception {
+        compiler.compile();
+        assertEquals(6, dao.count());
+
+        QuestionBankCompiler.write(List.of(new Question("Q", List.of(new Answer("A", true)))), bankPath);
+        Files.setLastModifiedTime(bankPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(bankPath).toMillis() + 1000));
+
+        assertThat(dao.findAll()).containsExactly(new Question("Q", List.of(new Answer("A", true))));
+    }
+
+    @Test
+    void findAll_ShouldFailWhenBankIsTruncated() throws Exception {
+        compiler.compile();
+        byte[] bytes = Files.readAllBytes(bankPath);
+        Files.write(bankPath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatThrownBy(() -> dao.findAll())
+                .isInstanceOf(QuestionReadException.class)
+                .hasMessageStartingWith("Corrupted question bank");
+    }
+
+    @Test
+    void findAll_ShouldFailWhenQuestionTableExceedsBank() throws Exception {
+        compiler.compile();
+        byte[] bytes = Files.readAllBytes(bankPath);
+        ByteBuffer.wrap(bytes).putInt(QuestionBankFormat.QUESTION_COUNT_POSITION, 1_000_000);
+        Files.write(bankPath, bytes);
+
+        assertThatThrownBy(() -> dao.findAll())
+                .isInstanceOf(QuestionReadException.class)
+                .hasMessageStartingWith("Corrupted question bank");
+    }
+
+    @Test
+    void findByIndex_ShouldReuseMappingUntilCount() throws Exception {
+        compiler.compile();
+        assertEquals(6, dao.count());
+
+        QuestionBankCompiler.write(List.of(new Question("Q", List.of(new Answer("A", true)))), bankPath);
+        Files.setLastModifiedTime(bankPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(bankPath).toMillis() + 1000));
+
+        assertEquals("What is the capital of France?", dao.findByIndex(3).text());
+        assertEquals(1, dao.count());
+        assertEquals("Q", dao.findByIndex(0).text());
+    }
+
+    @Test
+    void findAll_ShouldFailWhenBankIsMissing() {
+        assertThatThrownBy(() -> dao.findAll()).isInstanceOf(QuestionReadException.class);
+    }
+}
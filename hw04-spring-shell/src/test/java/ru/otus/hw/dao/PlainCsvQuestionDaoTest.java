@@ -0,0 +1,58 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = PlainCsvQuestionDao.class, properties = "test.dao.mode=plain")
+class PlainCsvQuestionDaoTest {
+
+    @MockitoBean
+    private TestFileNameProvider fileNameProvider;
+
+    @Autowired
+    private PlainCsvQuestionDao dao;
+
+    @BeforeEach
+    void setUp() {
+        when(fileNameProvider.getTestFileName()).thenReturn("test-questions.csv");
+    }
+
+    @Test
+    void findAll_ShouldReturnSameQuestionsAsCsvBinding() {
+        var expected = new CsvQuestionDao(fileNameProvider).findAll();
+
+        assertThat(dao.findAll()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void readQuestions_ShouldHandleWhitespaceLineBreaksAndCase() {
+        var content = CharBuffer.wrap("header\r\n  Q1; A%TRUE|B%false\r\n\r\nQ2;C%true%x|D%\r\n".toCharArray());
+
+        assertThat(PlainCsvQuestionDao.readQuestions(content)).containsExactly(
+                new Question("Q1", List.of(new Answer("A", true), new Answer("B", false))),
+                new Question("Q2", List.of(new Answer("C", true), new Answer("D", false)))
+        );
+    }
+
+    @Test
+    void readQuestions_ShouldFailOnAnswerWithoutCorrectness() {
+        var content = CharBuffer.wrap("header\nQ1;A|B%false\n".toCharArray());
+
+        assertThatThrownBy(() -> PlainCsvQuestionDao.readQuestions(content))
+                .isInstanceOf(QuestionReadException.class);
+    }
+}
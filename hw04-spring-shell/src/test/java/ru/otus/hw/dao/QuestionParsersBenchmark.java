@@ -0,0 +1,72 @@
+package ru.otus.hw.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.otus.hw.domain.Question;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares OpenCSV bean binding used by {@link CsvQuestionDao} with {@link PlainQuestionParser}
+ * on generated in-memory question banks. Run with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class QuestionParsersBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int questionsCount;
+
+    private String content;
+
+    private char[] chars;
+
+    @Setup
+    public void setUp() {
+        var sb = new StringBuilder("# header\n");
+        for (int i = 0; i < questionsCount; i++) {
+            sb.append("Question number ").append(i).append("?;")
+                    .append("Right answer ").append(i).append("%true|")
+                    .append("Wrong answer ").append(i).append("%false|")
+                    .append("Another wrong answer%false\n");
+        }
+        content = sb.toString();
+        chars = content.toCharArray();
+    }
+
+    @Benchmark
+    public List<Question> openCsv() {
+        return CsvQuestionDao.readQuestions(new StringReader(content));
+    }
+
+    @Benchmark
+    public List<Question> plainParser() {
+        return PlainCsvQuestionDao.readQuestions(CharBuffer.wrap(chars));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuestionParsersBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,73 @@
+package ru.otus.hw.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactResultStoreTest {
+
+    @Test
+    void add_ShouldPackResultsIntoWords() {
+        var store = new CompactResultStore(70);
+        var rightAnswers = bits(0, 65);
+
+        int first = store.add(rightAnswers);
+        int second = store.add(new BitSet());
+        for (int i = 0; i < 5000; i++) {
+            store.add(rightAnswers);
+        }
+
+        assertThat(store.size()).isEqualTo(5002);
+        assertThat(store.isRightAnswer(first, 0)).isTrue();
+        assertThat(store.isRightAnswer(first, 65)).isTrue();
+        assertThat(store.isRightAnswer(first, 1)).isFalse();
+        assertThat(store.getRightAnswersCount(first)).isEqualTo(2);
+        assertThat(store.getRightAnswersCount(second)).isZero();
+        assertThat(store.getRightAnswersCount(5001)).isEqualTo(2);
+    }
+
+    @Test
+    void countRightAnswersByQuestion_ShouldSumEveryQuestionAcrossWords() {
+        var store = new CompactResultStore(70);
+        store.add(bits(0, 65));
+        store.add(bits(65, 69));
+        store.add(new BitSet());
+
+        long[] counts = store.countRightAnswersByQuestion();
+
+        assertThat(counts).hasSize(70);
+        assertThat(counts[0]).isEqualTo(1);
+        assertThat(counts[65]).isEqualTo(2);
+        assertThat(counts[69]).isEqualTo(1);
+        assertThat(store.countResultsByScore()[0]).isEqualTo(1);
+        assertThat(store.countResultsByScore()[2]).isEqualTo(2);
+    }
+
+    @Test
+    void isRightAnswer_ShouldRejectQuestionIndexOutOfRange() {
+        var store = new CompactResultStore(3);
+        store.add(bits(0));
+
+        assertThatThrownBy(() -> store.isRightAnswer(0, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> store.isRightAnswer(0, -1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> store.isRightAnswer(1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void add_ShouldRejectAnswersBeyondQuestionsCount() {
+        var store = new CompactResultStore(3);
+
+        assertThatThrownBy(() -> store.add(bits(3))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BitSet bits(int... indexes) {
+        var bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,158 @@
+package ru.otus.hw.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.config.QuizServerConfig;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.service.QuestionAnalyticsServiceImpl;
+import ru.otus.hw.service.ResultStatisticsServiceImpl;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServerTest {
+
+    private static final int CLIENTS_COUNT = 200;
+
+    @Mock
+    private QuestionDao questionDao;
+
+    @Mock
+    private TestConfig testConfig;
+
+    @Mock
+    private QuizServerConfig serverConfig;
+
+    private ResultStatisticsServiceImpl resultStatisticsService;
+
+    private QuizServer server;
+
+    @BeforeEach
+    void setUp() {
+        var question = new Question("Is it a test question?",
+                List.of(new Answer("Yes", true), new Answer("No", false)));
+        lenient().when(questionDao.streamAll()).thenAnswer(invocation -> Stream.of(question));
+        lenient().when(testConfig.getRightAnswersCountToPass()).thenReturn(1);
+        resultStatisticsService = new ResultStatisticsServiceImpl();
+        server = new QuizServer((code, args) -> code + Arrays.toString(args), questionDao, testConfig, serverConfig,
+                resultStatisticsService, new QuestionAnalyticsServiceImpl(() -> Locale.forLanguageTag("en-US")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldServeConcurrentSessionsIndependently() throws Exception {
+        lenient().when(serverConfig.getServerMaxSessions()).thenReturn(CLIENTS_COUNT);
+        int port = server.start(0).port();
+
+        var executor = Executors.newFixedThreadPool(CLIENTS_COUNT);
+        List<Future<String>> outputs = new ArrayList<>();
+        for (int i = 0; i < CLIENTS_COUNT; i++) {
+            String answer = i % 2 == 0 ? "1" : "2";
+            outputs.add(executor.submit(session(port, "Student" + i, answer)));
+        }
+
+        for (int i = 0; i < CLIENTS_COUNT; i++) {
+            String output = outputs.get(i).get();
+            assertThat(output).contains("Is it a test question?", "1: Yes", "2: No", "Student" + i);
+            assertThat(output).contains(i % 2 == 0 ? "ResultService.passed.test" : "ResultService.fail.test");
+        }
+        executor.shutdown();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> server.getStatus().completedSessions() == CLIENTS_COUNT);
+        assertThat(server.getStatus().activeSessions()).isZero();
+        assertThat(resultStatisticsService.getStatistics().resultsCountByScore())
+                .containsExactly(CLIENTS_COUNT / 2, CLIENTS_COUNT / 2);
+    }
+
+    @Test
+    void shouldRejectSessionsOverLimit() throws Exception {
+        lenient().when(serverConfig.getServerMaxSessions()).thenReturn(1);
+        int port = server.start(0).port();
+
+        try (var idleClient = new Socket("localhost", port)) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> server.getStatus().activeSessions() == 1);
+
+            String output = session(port, "Late", "1").call();
+
+            assertThat(output).contains("QuizServer.server.busy").doesNotContain("Is it a test question?");
+            assertThat(server.getStatus().rejectedSessions()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldKeepSessionLimitAfterRestart() throws Exception {
+        lenient().when(serverConfig.getServerMaxSessions()).thenReturn(1);
+        int port = server.start(0).port();
+        try (var oldClient = new Socket("localhost", port)) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> server.getStatus().activeSessions() == 1);
+            server.stop();
+            port = server.start(0).port();
+            await().atMost(Duration.ofSeconds(5)).until(() -> server.getStatus().activeSessions() == 0);
+        }
+
+        try (var idleClient = new Socket("localhost", port)) {
+            int newPort = port;
+            await().atMost(Duration.ofSeconds(5)).until(() -> server.getStatus().activeSessions() == 1);
+
+            String output = session(newPort, "Late", "1").call();
+
+            assertThat(output).contains("QuizServer.server.busy");
+        }
+    }
+
+    @Test
+    void shouldTreatClientDisconnectAsEndOfSession() throws Exception {
+        lenient().when(serverConfig.getServerMaxSessions()).thenReturn(1);
+        int port = server.start(0).port();
+
+        try (var socket = new Socket("localhost", port)) {
+            new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8).println("Student");
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> server.getStatus().activeSessions() == 0);
+        assertThat(server.getStatus().completedSessions()).isZero();
+        assertThat(session(port, "Next", "1").call()).contains("ResultService.passed.test");
+    }
+
+    private static Callable<String> session(int port, String firstName, String answer) {
+        return () -> {
+            try (var socket = new Socket("localhost", port)) {
+                var out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                out.println(firstName);
+                out.println("Ivanov");
+                out.println(answer);
+                var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                return reader.lines().collect(Collectors.joining("\n"));
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = BatchGradingServiceImpl.class)
+class BatchGradingServiceImplTest {
+
+    private static final int SHEETS_COUNT = 20_000;
+
+    @TempDir
+    private Path tempDir;
+
+    @MockitoBean
+    private QuestionDao questionDao;
+
+    @MockitoBean
+    private TestConfig testConfig;
+
+    @Autowired
+    private BatchGradingServiceImpl gradingService;
+
+    @BeforeEach
+    void setUp() {
+        when(questionDao.findAll()).thenReturn(List.of(
+                new Question("Q1", List.of(new Answer("A", true), new Answer("B", false))),
+                new Question("Q2", List.of(new Answer("A", false), new Answer("B", false), new Answer("C", true)))));
+        when(testConfig.getRightAnswersCountToPass()).thenReturn(2);
+    }
+
+    @Test
+    void grade_ShouldGradeSheetsKeepingInputOrder() throws Exception {
+        List<String> sheets = new ArrayList<>();
+        sheets.add("# firstName;lastName;answers");
+        for (int i = 0; i < SHEETS_COUNT; i++) {
+            sheets.add("Student%d;Ivanov;%s".formatted(i, i % 2 == 0 ? "1|3" : "2|3"));
+        }
+        Path input = Files.write(tempDir.resolve("sheets.txt"), sheets);
+        Path output = tempDir.resolve("results.txt");
+
+        var summary = gradingService.grade(input, output);
+
+        assertThat(summary.sheetsCount()).isEqualTo(SHEETS_COUNT);
+        assertThat(summary.passedCount()).isEqualTo(SHEETS_COUNT / 2);
+        assertThat(summary.failedCount()).isEqualTo(SHEETS_COUNT / 2);
+        var results = Files.readAllLines(output);
+        assertThat(results).hasSize(SHEETS_COUNT);
+        for (int i = 0; i < SHEETS_COUNT; i++) {
+            assertThat(results.get(i)).isEqualTo(i % 2 == 0
+                    ? "Student%d;Ivanov;2;2;PASSED".formatted(i)
+                    : "Student%d;Ivanov;1;2;FAILED".formatted(i));
+        }
+    }
+
+    @Test
+    void grade_ShouldMarkMalformedSheetsInPlace() throws Exception {
+        Path input = Files.write(tempDir.resolve("sheets.txt"), List.of(
+                "Ivan;Ivanov;1 | 3",
+                "Petr;Petrov;1",
+                "Anna;Sidorova;1|4",
+                "Oleg;Orlov;1|x",
+                "Nobody",
+                "",
+                "Maria;Popova;2|2"));
+        Path output = tempDir.resolve("results.txt");
+
+        var summary = gradingService.grade(input, output);
+
+        assertThat(summary.sheetsCount()).isEqualTo(6);
+        assertThat(summary.invalidCount()).isEqualTo(4);
+        assertThat(Files.readAllLines(output)).containsExactly(
+                "Ivan;Ivanov;2;2;PASSED",
+                "Petr;Petrov;1;INVALID",
+                "Anna;Sidorova;1|4;INVALID",
+                "Oleg;Orlov;1|x;INVALID",
+                "Nobody;INVALID",
+                "Maria;Popova;0;2;FAILED");
+    }
+
+    @Test
+    void grade_ShouldRejectSpaceInsideAnswerNumber() throws Exception {
+        when(questionDao.findAll()).thenReturn(List.of(new Question("Q1",
+                IntStream.rangeClosed(1, 12).mapToObj(i -> new Answer("A" + i, i == 12)).toList())));
+        when(testConfig.getRightAnswersCountToPass()).thenReturn(1);
+
+        assertThat(gradeLines("Ivan;Ivanov;1 2", "Petr;Petrov; 12 ", "Anna;Sidorova;\t12\t"))
+                .containsExactly("Ivan;Ivanov;1 2;INVALID", "Petr;Petrov;1;1;PASSED", "Anna;Sidorova;1;1;PASSED");
+    }
+
+    @Test
+    void grade_ShouldRejectEmptyAndWhitespaceAnswers() throws Exception {
+        assertThat(gradeLines("Ivan;Ivanov;", "Petr;Petrov;   ", "Anna;Sidorova;1||3", "Oleg;Orlov;1|3|",
+                "Maria;Popova;|1|3", ";;1|3"))
+                .containsExactly("Ivan;Ivanov;;INVALID", "Petr;Petrov;   ;INVALID", "Anna;Sidorova;1||3;INVALID",
+                        "Oleg;Orlov;1|3|;INVALID", "Maria;Popova;|1|3;INVALID", ";;2;2;PASSED");
+    }
+
+    @Test
+    void grade_ShouldRejectExtraAndOutOfRangeAnswers() throws Exception {
+        assertThat(gradeLines("Ivan;Ivanov;1|3|1", "Petr;Petrov;0|3", "Anna;Sidorova;1|99999999999",
+                "Oleg;Orlov;1;3", "Maria;Popova;-1|3"))
+                .containsExactly("Ivan;Ivanov;1|3|1;INVALID", "Petr;Petrov;0|3;INVALID",
+                        "Anna;Sidorova;1|99999999999;INVALID", "Oleg;Orlov;1;3;INVALID",
+                        "Maria;Popova;-1|3;INVALID");
+    }
+
+    private List<String> gradeLines(String... sheets) throws Exception {
+        Path input = Files.write(tempDir.resolve("sheets.txt"), List.of(sheets));
+        Path output = tempDir.resolve("results.txt");
+        var summary = gradingService.grade(input, output);
+        assertThat(summary.sheetsCount()).isEqualTo(sheets.length);
+        return Files.readAllLines(output);
+    }
+}
@@ -0,0 +1,82 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BufferedStreamsIOServiceTest {
+
+    @Test
+    void shouldWriteQuestionBlockOnceBeforeReading() {
+        var out = new CountingOutputStream();
+        var ioService = new BufferedStreamsIOService(new PrintStream(out, false, StandardCharsets.UTF_8), input("2\n"));
+
+        ioService.printLine("Question?");
+        ioService.printFormattedLine("%d: %s", 1, "Yes");
+        ioService.printFormattedLine("%d: %s", 2, "No");
+        assertThat(out.flushes).isZero();
+
+        int answer = ioService.readIntForRangeWithPrompt(1, 2, "Select:", "Out of range");
+
+        assertThat(answer).isEqualTo(2);
+        assertThat(out.flushes).isEqualTo(1);
+        assertThat(out.text()).isEqualTo(lines("Question?", "1: Yes", "2: No", "Select:"));
+    }
+
+    @Test
+    void shouldProduceSameOutputAsStreamsIOService() {
+        var bufferedOut = new CountingOutputStream();
+        var plainOut = new CountingOutputStream();
+        var buffered = new BufferedStreamsIOService(new PrintStream(bufferedOut, false, StandardCharsets.UTF_8),
+                input(""));
+        var plain = new StreamsIOService(new PrintStream(plainOut, false, StandardCharsets.UTF_8), input(""));
+
+        for (IOService ioService : new IOService[]{buffered, plain}) {
+            ioService.printFormattedLine("%d: %s", 1, null);
+            ioService.printFormattedLine("%5s|%-3d|100%%", "ab", 7);
+            ioService.printFormattedLine("%s%n%d", "x", 12345678901L);
+            ioService.flush();
+        }
+
+        assertThat(bufferedOut.text()).isEqualTo(plainOut.text());
+    }
+
+    @Test
+    void shouldFlushPendingOutputWhenAttemptsAreExhausted() {
+        var out = new CountingOutputStream();
+        var ioService = new BufferedStreamsIOService(new PrintStream(out, false, StandardCharsets.UTF_8),
+                input("0\n".repeat(10)));
+
+        assertThatThrownBy(() -> ioService.readIntForRange(1, 2, "Out of range"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(out.text()).isEqualTo(lines("Out of range").repeat(10));
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String lines(String... lines) {
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        String text() {
+            return toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import ru.otus.hw.config.LocaleConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrecompiledMessagesServiceImplTest {
+
+    @Mock
+    private LocaleConfig localeConfig;
+
+    private ResourceBundleMessageSource messageSource;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ru-RU", "en-US"})
+    void getMessage_ShouldMatchMessageSourceForAllCodes(String localeTag) throws Exception {
+        Locale locale = Locale.forLanguageTag(localeTag);
+        when(localeConfig.getLocale()).thenReturn(locale);
+        var service = new PrecompiledMessagesServiceImpl(localeConfig, messageSource, "messages", StandardCharsets.UTF_8);
+
+        var codes = new Properties();
+        try (var is = getClass().getClassLoader().getResourceAsStream("messages.properties")) {
+            codes.load(is);
+        }
+        for (String code : codes.stringPropertyNames()) {
+            for (Object[] args : List.of(new Object[0], new Object[]{"Ivan Ivanov"}, new Object[]{12345})) {
+                assertThat(service.getMessage(code, args))
+                        .as("%s %s", code, localeTag)
+                        .isEqualTo(messageSource.getMessage(code, args, locale));
+            }
+        }
+    }
+
+    @Test
+    void format_ShouldHandleMultipleArgumentsMissingOnesAndQuotes() {
+        var template = MessageTemplate.compile("{1} and {0}, then {2}", Locale.US);
+
+        assertThat(template.format("a", "b")).isEqualTo("b and a, then {2}");
+        assertThat(template.format("a", 1000)).isEqualTo("1,000 and a, then {2}");
+        assertThat(MessageTemplate.compile("It''s {0}", Locale.US).format("ok")).isEqualTo("It's ok");
+    }
+
+    @Test
+    void getMessage_ShouldFailForUnknownCode() {
+        when(localeConfig.getLocale()).thenReturn(Locale.forLanguageTag("en-US"));
+        var service = new PrecompiledMessagesServiceImpl(localeConfig, messageSource, "messages", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> service.getMessage("unknown.code")).isInstanceOf(NoSuchMessageException.class);
+    }
+}
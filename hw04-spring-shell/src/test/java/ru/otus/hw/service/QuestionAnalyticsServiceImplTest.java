@@ -0,0 +1,123 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionAnalytics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class QuestionAnalyticsServiceImplTest {
+
+    private static final Locale ENGLISH = Locale.forLanguageTag("en-US");
+
+    private static final Locale RUSSIAN = Locale.forLanguageTag("ru-RU");
+
+    private static final Question EASY = question("Easy question");
+
+    private static final Question MEDIUM = question("Medium question");
+
+    private static final Question HARD = question("Hard question");
+
+    @Test
+    void findHardestQuestions_ShouldOrderByRightAnswersRateAndLimitCount() {
+        var service = new QuestionAnalyticsServiceImpl(() -> ENGLISH);
+        answer(service, 0, EASY, 0, 10);
+        answer(service, 1, MEDIUM, 0, 5);
+        answer(service, 1, MEDIUM, 1, 5);
+        answer(service, 2, HARD, 1, 9);
+        answer(service, 2, HARD, 0, 1);
+
+        var hardest = service.findHardestQuestions(2);
+
+        assertThat(hardest).extracting(QuestionAnalytics::text).containsExactly("Hard question", "Medium question");
+        assertThat(hardest.get(0).answersCount()).isEqualTo(10);
+        assertThat(hardest.get(0).rightAnswersCount()).isEqualTo(1);
+        assertThat(hardest.get(0).answersCountByOption()).containsExactly(1, 9);
+    }
+
+    @Test
+    void getLatencyPercentiles_ShouldReportBucketUpperBounds() {
+        var service = new QuestionAnalyticsServiceImpl(() -> ENGLISH);
+        for (int i = 0; i < 99; i++) {
+            service.recordAnswer(0, EASY, 0, true, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        service.recordAnswer(0, EASY, 0, true, TimeUnit.MILLISECONDS.toNanos(5000));
+
+        var latency = service.getLatencyPercentiles();
+
+        assertThat(latency.count()).isEqualTo(100);
+        assertThat(latency.p50Millis()).isEqualTo(15);
+        assertThat(latency.p99Millis()).isEqualTo(15);
+        assertThat(latency.maxMillis()).isEqualTo(5000);
+        assertThat(service.findHardestQuestions(1).get(0).latency().count()).isEqualTo(100);
+    }
+
+    @Test
+    void recordAnswer_ShouldNotLoseConcurrentUpdates() {
+        var service = new QuestionAnalyticsServiceImpl(() -> ENGLISH);
+        var futures = IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> answer(service, thread % 3, question(
+                        "Question " + thread % 3), thread % 2, 10_000)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        assertThat(service.getLatencyPercentiles().count()).isEqualTo(80_000);
+        assertThat(service.findHardestQuestions(3)).extracting(QuestionAnalytics::answersCount)
+                .containsExactlyInAnyOrder(30_000L, 30_000L, 20_000L);
+    }
+
+    @Test
+    void recordAnswer_ShouldKeepSeparateCountersPerLocaleAtSameIndex() {
+        var locale = new AtomicReference<>(ENGLISH);
+        var service = new QuestionAnalyticsServiceImpl(locale::get);
+        var english = question("What is the capital of France?");
+        var russian = question("Какая столица у Франции?");
+        for (int i = 0; i < 10; i++) {
+            locale.set(ENGLISH);
+            answer(service, 0, english, 0, 1);
+            locale.set(RUSSIAN);
+            answer(service, 0, russian, 1, 1);
+        }
+
+        assertThat(service.findHardestQuestions(2))
+                .extracting(QuestionAnalytics::questionIndex, QuestionAnalytics::text, QuestionAnalytics::answersCount,
+                        QuestionAnalytics::rightAnswersCount)
+                .containsExactly(
+                        tuple(0, "Какая столица у Франции?", 10L, 0L),
+                        tuple(0, "What is the capital of France?", 10L, 10L));
+    }
+
+    @Test
+    void recordAnswer_ShouldRestartCountersWhenOptionsCountChanges() {
+        var service = new QuestionAnalyticsServiceImpl(() -> ENGLISH);
+        answer(service, 0, EASY, 0, 5);
+        var edited = new Question("Easy question", List.of(new Answer("Right", true), new Answer("Wrong", false),
+                new Answer("Also wrong", false)));
+
+        answer(service, 0, edited, 2, 3);
+
+        var analytics = service.findHardestQuestions(1).get(0);
+        assertThat(analytics.answersCountByOption()).containsExactly(0, 0, 3);
+        assertThat(analytics.rightAnswersCount()).isZero();
+    }
+
+    private static void answer(QuestionAnalyticsService service, int index, Question question, int option,
+                               int times) {
+        for (int i = 0; i < times; i++) {
+            service.recordAnswer(index, question, option, question.answers().get(option).isCorrect(), 0);
+        }
+    }
+
+    private static Question question(String text) {
+        return new Question(text, List.of(new Answer("Right", true), new Answer("Wrong", false)));
+    }
+}
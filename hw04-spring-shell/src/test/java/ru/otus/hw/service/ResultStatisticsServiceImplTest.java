@@ -0,0 +1,51 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ResultStatisticsServiceImplTest {
+
+    @Test
+    void getStatistics_ShouldAggregateRatesAndHistogramFromStoredResults() {
+        var service = new ResultStatisticsServiceImpl();
+
+        service.register(result(true, true, false));
+        service.register(result(true, false, false));
+        service.register(result(false, false, false));
+        service.register(result(true, true, true));
+
+        var statistics = service.getStatistics();
+        assertThat(statistics.resultsCount()).isEqualTo(4);
+        assertThat(statistics.rightAnswersRateByQuestion()[0]).isCloseTo(0.75, within(1e-9));
+        assertThat(statistics.rightAnswersRateByQuestion()[1]).isCloseTo(0.5, within(1e-9));
+        assertThat(statistics.rightAnswersRateByQuestion()[2]).isCloseTo(0.25, within(1e-9));
+        assertThat(statistics.resultsCountByScore()).containsExactly(1, 1, 1, 1);
+    }
+
+    @Test
+    void getStatistics_ShouldKeepSeparateStatisticsPerQuestionsCount() {
+        var service = new ResultStatisticsServiceImpl();
+
+        service.register(result(true, true, false));
+        service.register(result(true, false));
+        service.register(result(false, true, true));
+
+        assertThat(service.getStatistics().resultsCountByScore()).containsExactly(0, 0, 2, 0);
+        assertThat(service.getStatistics(2).resultsCount()).isEqualTo(1);
+        assertThat(service.getStatistics(2).resultsCountByScore()).containsExactly(0, 1, 0);
+        assertThat(service.getStatistics(3).resultsCount()).isEqualTo(2);
+        assertThat(service.getStatistics(5).resultsCount()).isZero();
+    }
+
+    private static TestResult result(boolean... answers) {
+        var testResult = new TestResult(new Student("Ivan", "Ivanov"));
+        for (int i = 0; i < answers.length; i++) {
+            testResult.applyAnswer(i, answers[i]);
+        }
+        return testResult;
+    }
+}
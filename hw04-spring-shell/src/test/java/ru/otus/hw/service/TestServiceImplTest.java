@@ -15,7 +15,14 @@ import ru.otus.hw.domain.Question;
 import ru.otus.hw.domain.Student;
 
 import java.util.List;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = TestServiceImpl.class)
@@ -27,12 +34,15 @@ class TestServiceImplTest {
     @MockitoBean
     private QuestionDao questionDao;
 
+    @MockitoBean
+    private QuestionAnalyticsService questionAnalyticsService;
+
     @Autowired
     private TestServiceImpl testService;
 
     @BeforeEach
     void setUp() {
-        testService = new TestServiceImpl(ioService, questionDao);
+        testService = new TestServiceImpl(ioService, questionDao, questionAnalyticsService);
     }
 
     @Test
@@ -42,7 +52,7 @@ class TestServiceImplTest {
         Question question = new Question("Is it a test question?", List.of(answer1, answer2));
         Student student = new Student("Ivan", "Ivanov");
 
-        when(questionDao.findAll()).thenReturn(List.of(question));
+        when(questionDao.streamAll()).thenReturn(Stream.of(question));
         when(ioService.readIntForRangeWithPromptLocalized(
                 1, 2,
                 "TestService.select.answer",
@@ -67,5 +77,26 @@ class TestServiceImplTest {
                 "TestService.select.answer",
                 "TestService.answer.number.out.of.range"
         );
+        verify(questionAnalyticsService).recordAnswer(eq(0), eq(question), eq(0), eq(true), anyLong());
+    }
+
+    @Test
+    void shouldReadQuestionsFromStreamAndCloseIt() {
+        var closed = new AtomicBoolean();
+        var first = new Question("First?", List.of(new Answer("Yes", true), new Answer("No", false)));
+        var second = new Question("Second?", List.of(new Answer("Yes", false), new Answer("No", true)));
+        when(questionDao.streamAll()).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(ioService.readIntForRangeWithPromptLocalized(
+                1, 2,
+                "TestService.select.answer",
+                "TestService.answer.number.out.of.range"
+        )).thenReturn(1, 2);
+
+        var testResult = testService.executeTestFor(new Student("Ivan", "Ivanov"));
+
+        assertThat(testResult.getAnsweredQuestionsCount()).isEqualTo(2);
+        assertThat(testResult.getRightAnswersCount()).isEqualTo(2);
+        assertThat(closed).isTrue();
+        verify(questionDao, never()).findAll();
     }
-}
\ No newline at end of file
+}
@@ -6,8 +6,6 @@ import org.springframework.shell.standard.ShellMethod;
 import ru.otus.hw.converters.AuthorConverter;
 import ru.otus.hw.services.AuthorService;
 
-import java.util.stream.Collectors;
-
 @RequiredArgsConstructor
 @ShellComponent
 public class AuthorCommands {
@@ -16,10 +14,12 @@ public class AuthorCommands {
 
     private final AuthorConverter authorConverter;
 
+    private final StreamingPrinter streamingPrinter;
+
     @ShellMethod(value = "Find all authors", key = "aa")
-    public String findAllAuthors() {
-        return authorService.findAll().stream()
-                .map(authorConverter::authorToString)
-                .collect(Collectors.joining("," + System.lineSeparator()));
+    public void findAllAuthors() {
+        try (var authors = authorService.streamAll()) {
+            streamingPrinter.print(authors, authorConverter::authorToString);
+        }
     }
 }
@@ -3,9 +3,16 @@ package ru.otus.hw.commands;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.repositories.BookSearchCriteria;
+import ru.otus.hw.repositories.BookSortField;
+import ru.otus.hw.services.BookImportService;
 import ru.otus.hw.services.BookService;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
@@ -17,11 +24,33 @@ public class BookCommands {
 
     private final BookConverter bookConverter;
 
+    private final BookImportService bookImportService;
+
+    private final StreamingPrinter streamingPrinter;
+
     @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
+    public void findAllBooks() {
+        try (var books = bookService.streamAll()) {
+            streamingPrinter.print(books, bookConverter::bookToString);
+        }
+    }
+
+    // abp --last-id 20 --limit 20
+    @ShellMethod(value = "Find page of books after given id", key = "abp")
+    public String findBooksPage(@ShellOption(value = "--last-id", defaultValue = "0") long lastId,
+                                @ShellOption(defaultValue = "20") int limit) {
+        if (limit <= 0) {
+            return "Limit must be positive but was %d".formatted(limit);
+        }
+        var books = bookService.findPage(lastId, limit);
+        if (books.isEmpty()) {
+            return "No books after id %d".formatted(lastId);
+        }
+        return books.stream()
                 .map(bookConverter::bookToString)
-                .collect(Collectors.joining("," + System.lineSeparator()));
+                .collect(Collectors.joining("," + System.lineSeparator()))
+                + System.lineSeparator() + "Next page: abp --last-id %d --limit %d"
+                .formatted(books.get(books.size() - 1).getId(), limit);
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -31,6 +60,35 @@ public class BookCommands {
                 .orElse("Book with id %d not found".formatted(id));
     }
 
+    // bsearch --author-id 1 --title Book --sort title --desc --limit 10
+    @ShellMethod(value = "Search books by author, genre and title prefix", key = "bsearch")
+    public String searchBooks(@ShellOption(value = "--author-id", defaultValue = ShellOption.NULL) Long authorId,
+                              @ShellOption(value = "--genre-id", defaultValue = ShellOption.NULL) Long genreId,
+                              @ShellOption(defaultValue = ShellOption.NULL) String title,
+                              @ShellOption(defaultValue = "id") String sort,
+                              @ShellOption(defaultValue = "false") boolean desc,
+                              @ShellOption(defaultValue = "" + BookSearchCriteria.DEFAULT_LIMIT) int limit) {
+        var sortField = BookSortField.findByName(sort);
+        if (sortField.isEmpty()) {
+            return "Unknown sort field '%s', expected one of: %s".formatted(sort, BookSortField.names());
+        }
+        var criteria = BookSearchCriteria.builder()
+                .authorId(authorId)
+                .genreId(genreId)
+                .titlePrefix(title)
+                .sortBy(sortField.get())
+                .descending(desc)
+                .limit(limit)
+                .build();
+        var books = bookService.search(criteria);
+        if (books.isEmpty()) {
+            return "No books found";
+        }
+        return books.stream()
+                .map(bookConverter::bookToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+    }
+
     // bins newBook 1 1
     @ShellMethod(value = "Insert book", key = "bins")
     public String insertBook(String title, long authorId, long genreId) {
@@ -45,9 +103,41 @@ public class BookCommands {
         return bookConverter.bookToString(savedBook);
     }
 
+    // bimp books.txt
+    @ShellMethod(value = "Import books from file with 'title;authorId;genreId' lines", key = "bimp")
+    public String importBooks(String file) {
+        long startNanos = System.nanoTime();
+        long imported = bookImportService.importBooks(Path.of(file));
+        return "Imported %d books from %s in %d ms".formatted(imported, file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
     // bdel 4
     @ShellMethod(value = "Delete book by id", key = "bdel")
     public void deleteBook(long id) {
         bookService.deleteById(id);
     }
+
+    // bdelm 1,2,3
+    @ShellMethod(value = "Delete books by comma separated ids", key = "bdelm")
+    public String deleteBooks(String ids) {
+        var bookIds = Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+        return "Deleted %d books".formatted(bookService.deleteByIds(bookIds));
+    }
+
+    // bdela 1
+    @ShellMethod(value = "Delete all books of author", key = "bdela")
+    public String deleteBooksByAuthor(long authorId) {
+        return "Deleted %d books".formatted(bookService.deleteByAuthorId(authorId));
+    }
+
+    // bdelg 1
+    @ShellMethod(value = "Delete all books of genre", key = "bdelg")
+    public String deleteBooksByGenre(long genreId) {
+        return "Deleted %d books".formatted(bookService.deleteByGenreId(genreId));
+    }
 }
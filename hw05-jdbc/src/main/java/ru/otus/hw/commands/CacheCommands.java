@@ -0,0 +1,61 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.repositories.CacheStatistics;
+import ru.otus.hw.repositories.CachingAuthorRepository;
+import ru.otus.hw.repositories.CachingGenreRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class CacheCommands {
+
+    private final ObjectProvider<CachingAuthorRepository> authorRepository;
+
+    private final ObjectProvider<CachingGenreRepository> genreRepository;
+
+    @ShellMethod(value = "Show authors and genres cache statistics", key = "cstat")
+    public String showCacheStatistics() {
+        var statistics = new ArrayList<CacheStatistics>();
+        authorRepository.ifAvailable(repository -> statistics.add(repository.getStatistics()));
+        genreRepository.ifAvailable(repository -> statistics.add(repository.getStatistics()));
+        if (statistics.isEmpty()) {
+            return "Reference cache is disabled";
+        }
+        return format(statistics);
+    }
+
+    @ShellMethod(value = "Clear authors and genres cache", key = "cclr")
+    public String clearCache() {
+        authorRepository.ifAvailable(CachingAuthorRepository::invalidateAll);
+        genreRepository.ifAvailable(CachingGenreRepository::invalidateAll);
+        return "Reference cache cleared";
+    }
+
+    @ShellMethod(value = "Drop changed author and/or genre from cache", key = "cinv")
+    public String invalidateCache(@ShellOption(value = "--author-id", defaultValue = ShellOption.NULL) Long authorId,
+                                  @ShellOption(value = "--genre-id", defaultValue = ShellOption.NULL) Long genreId) {
+        if (authorId != null) {
+            authorRepository.ifAvailable(repository -> repository.invalidate(authorId));
+        }
+        if (genreId != null) {
+            genreRepository.ifAvailable(repository -> repository.invalidate(genreId));
+        }
+        return "Reference cache entries dropped";
+    }
+
+    private static String format(List<CacheStatistics> statistics) {
+        return statistics.stream()
+                .map(s -> "%s: hits %d, misses %d, evictions %d, size %d/%d"
+                        .formatted(s.name(), s.hits(), s.misses(), s.evictions(), s.size(), s.maxSize()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,29 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.config.ReadWriteRoutingDataSource;
+
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class DataSourceCommands {
+
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+    @ShellMethod(value = "Show connections acquired per data source route", key = "dsroutes")
+    public String showRouteStatistics() {
+        var dataSource = routingDataSource.getIfAvailable();
+        if (dataSource == null) {
+            return "Read replica routing is disabled";
+        }
+        return dataSource.getStatistics().stream()
+                .map(s -> "%s: connections %d, failures %d, mean acquire %d us"
+                        .formatted(s.route(), s.connections(), s.failures(), s.getMeanAcquireMicros()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,36 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class MetricsCommands {
+
+    private final JdbcStatementMetrics metrics;
+
+    @ShellMethod(value = "Show JDBC statements latency, rows and batches", key = "jstat")
+    public String showStatementStatistics() {
+        var statistics = metrics.getStatistics();
+        if (statistics.isEmpty()) {
+            return "No statements executed yet";
+        }
+        return statistics.stream()
+                .map(s -> ("%s: calls %d, errors %d, rows %d, batches %d (%d rows), " +
+                        "mean %d us, p50 <= %d us, p99 <= %d us, max %d us")
+                        .formatted(s.name(), s.calls(), s.errors(), s.rows(), s.batches(), s.batchedRows(),
+                                s.getMeanMicros(), s.p50Micros(), s.p99Micros(), s.maxMicros()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Reset JDBC statements statistics", key = "jreset")
+    public String resetStatementStatistics() {
+        metrics.reset();
+        return "JDBC statements statistics reset";
+    }
+}
@@ -0,0 +1,35 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Component
+public class StreamingPrinter {
+    private static final int FLUSH_EVERY = 100;
+
+    private final Terminal terminal;
+
+    public <T> long print(Stream<T> items, Function<T, String> converter) {
+        var writer = terminal.writer();
+        long count = 0;
+        for (var iterator = items.iterator(); iterator.hasNext(); ) {
+            if (count > 0) {
+                writer.println(",");
+            }
+            writer.print(converter.apply(iterator.next()));
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        if (count > 0) {
+            writer.println();
+        }
+        writer.flush();
+        return count;
+    }
+}
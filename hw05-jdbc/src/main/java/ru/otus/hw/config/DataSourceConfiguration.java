@@ -0,0 +1,40 @@
+package ru.otus.hw.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, PoolProperties.class})
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "library.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties, PoolProperties poolProperties) {
+        return createDataSource(dataSourceProperties, poolProperties);
+    }
+
+    public static HikariDataSource createDataSource(DataSourceProperties dataSourceProperties,
+                                                    PoolProperties poolProperties) {
+        var dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configure(dataSource, poolProperties);
+        log.info("Connection pool {}: maximumPoolSize={}, minimumIdle={}", dataSource.getPoolName(),
+                dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle());
+        return dataSource;
+    }
+
+    public static void configure(HikariDataSource dataSource, PoolProperties poolProperties) {
+        dataSource.setPoolName(poolProperties.getPoolName());
+        dataSource.setMaximumPoolSize(poolProperties.getEffectiveMaximumPoolSize());
+        dataSource.setMinimumIdle(poolProperties.getEffectiveMinimumIdle());
+        dataSource.setConnectionTimeout(poolProperties.getConnectionTimeout().toMillis());
+        dataSource.setMaxLifetime(poolProperties.getMaxLifetime().toMillis());
+    }
+}
@@ -0,0 +1,6 @@
+package ru.otus.hw.config;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.config;
+
+public record DataSourceRouteStatistics(DataSourceRoute route, long connections, long failures,
+                                        long totalAcquireMicros) {
+
+    public long getMeanAcquireMicros() {
+        return connections == 0 ? 0 : totalAcquireMicros / connections;
+    }
+}
@@ -0,0 +1,39 @@
+package ru.otus.hw.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "library.pool")
+public class PoolProperties {
+
+    private String poolName = "library-pool";
+
+    private int maximumPoolSize;
+
+    private int minimumIdle = -1;
+
+    private Duration connectionTimeout = Duration.ofSeconds(5);
+
+    private Duration maxLifetime = Duration.ofMinutes(30);
+
+    /**
+     * Explicit size or, when not set, {@code cores * 2 + 1}: a connection per core busy on CPU, another waiting
+     * on IO, plus one spare.
+     */
+    public int getEffectiveMaximumPoolSize() {
+        return maximumPoolSize > 0 ? maximumPoolSize : defaultPoolSize(Runtime.getRuntime().availableProcessors());
+    }
+
+    public int getEffectiveMinimumIdle() {
+        return minimumIdle >= 0 ? Math.min(minimumIdle, getEffectiveMaximumPoolSize()) : getEffectiveMaximumPoolSize();
+    }
+
+    public static int defaultPoolSize(int cores) {
+        return cores * 2 + 1;
+    }
+}
@@ -0,0 +1,95 @@
+package ru.otus.hw.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * The route is decided when a connection is requested, so the data source has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * a connection before the read-only flag of the transaction is published.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<DataSourceRoute, RouteCounters> counters = new EnumMap<>(DataSourceRoute.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        for (var route : DataSourceRoute.values()) {
+            counters.put(route, new RouteCounters());
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected DataSourceRoute determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceRoute.REPLICA
+                : DataSourceRoute.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var routeCounters = counters.get(determineCurrentLookupKey());
+        long start = System.nanoTime();
+        try {
+            var connection = super.getConnection();
+            routeCounters.acquired(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            routeCounters.failures.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        var routeCounters = counters.get(determineCurrentLookupKey());
+        long start = System.nanoTime();
+        try {
+            var connection = super.getConnection(username, password);
+            routeCounters.acquired(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            routeCounters.failures.increment();
+            throw e;
+        }
+    }
+
+    public List<DataSourceRouteStatistics> getStatistics() {
+        return Arrays.stream(DataSourceRoute.values())
+                .map(route -> counters.get(route).toStatistics(route))
+                .toList();
+    }
+
+    private static class RouteCounters {
+
+        private final LongAdder connections = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder acquireNanos = new LongAdder();
+
+        void acquired(long nanos) {
+            connections.increment();
+            acquireNanos.add(nanos);
+        }
+
+        DataSourceRouteStatistics toStatistics(DataSourceRoute route) {
+            return new DataSourceRouteStatistics(route, connections.sum(), failures.sum(),
+                    TimeUnit.NANOSECONDS.toMicros(acquireNanos.sum()));
+        }
+    }
+}
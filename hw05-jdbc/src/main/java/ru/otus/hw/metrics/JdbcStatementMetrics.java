@@ -0,0 +1,185 @@
+package ru.otus.hw.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Records latency, row counts and batch sizes of repository statements under stable statement names
+ * such as {@code books.findById}, so the raw SQL never becomes a metric key.
+ */
+@Component
+public class JdbcStatementMetrics {
+    private final Map<String, StatementStats> statsByName = new ConcurrentHashMap<>();
+
+    private final List<StatementMetricsListener> listeners;
+
+    @Autowired
+    public JdbcStatementMetrics(List<StatementMetricsListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public JdbcStatementMetrics() {
+        this(List.of());
+    }
+
+    public <T> List<T> query(String name, Supplier<List<T>> query) {
+        long startNanos = System.nanoTime();
+        try {
+            var result = query.get();
+            record(name, System.nanoTime() - startNanos, result.size(), 0);
+            return result;
+        } catch (RuntimeException e) {
+            stats(name).recordError();
+            throw e;
+        }
+    }
+
+    public int update(String name, IntSupplier update) {
+        long startNanos = System.nanoTime();
+        try {
+            int updated = update.getAsInt();
+            record(name, System.nanoTime() - startNanos, updated, 0);
+            return updated;
+        } catch (RuntimeException e) {
+            stats(name).recordError();
+            throw e;
+        }
+    }
+
+    public int[] batchUpdate(String name, int batchSize, Supplier<int[]> batchUpdate) {
+        long startNanos = System.nanoTime();
+        try {
+            int[] updated = batchUpdate.get();
+            long rows = 0;
+            for (int count : updated) {
+                rows += Math.max(count, 0);
+            }
+            record(name, System.nanoTime() - startNanos, rows, batchSize);
+            return updated;
+        } catch (RuntimeException e) {
+            stats(name).recordError();
+            throw e;
+        }
+    }
+
+    /**
+     * Latency of a stream covers the whole iteration and is recorded when the stream is closed. A failure while
+     * iterating counts as an error and the call is not recorded as successful.
+     */
+    public <T> Stream<T> stream(String name, Supplier<Stream<T>> query) {
+        long startNanos = System.nanoTime();
+        Stream<T> source;
+        try {
+            source = query.get();
+        } catch (RuntimeException e) {
+            stats(name).recordError();
+            throw e;
+        }
+        var rows = new MeteredSpliterator<>(source.spliterator(), () -> stats(name).recordError());
+        return StreamSupport.stream(rows, false)
+                .onClose(source::close)
+                .onClose(() -> {
+                    if (!rows.failed) {
+                        record(name, System.nanoTime() - startNanos, rows.count, 0);
+                    }
+                });
+    }
+
+    public List<StatementStatistics> getStatistics() {
+        return statsByName.values().stream()
+                .map(StatementStats::snapshot)
+                .sorted(Comparator.comparingLong(StatementStatistics::totalMicros).reversed()
+                        .thenComparing(StatementStatistics::name))
+                .toList();
+    }
+
+    public void reset() {
+        statsByName.clear();
+    }
+
+    private void record(String name, long durationNanos, long rows, int batchSize) {
+        stats(name).record(durationNanos, rows, batchSize);
+        for (var listener : listeners) {
+            listener.onStatement(name, durationNanos, rows, batchSize);
+        }
+    }
+
+    private StatementStats stats(String name) {
+        var stats = statsByName.get(name);
+        return stats != null ? stats : statsByName.computeIfAbsent(name, StatementStats::new);
+    }
+
+    private static final class MeteredSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> delegate;
+
+        private final Runnable onError;
+
+        private long count;
+
+        private boolean failed;
+
+        private MeteredSpliterator(Spliterator<T> delegate, Runnable onError) {
+            this.delegate = delegate;
+            this.onError = onError;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                return delegate.tryAdvance(row -> {
+                    count++;
+                    action.accept(row);
+                });
+            } catch (RuntimeException e) {
+                fail();
+                throw e;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            try {
+                delegate.forEachRemaining(row -> {
+                    count++;
+                    action.accept(row);
+                });
+            } catch (RuntimeException e) {
+                fail();
+                throw e;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        private void fail() {
+            if (!failed) {
+                failed = true;
+                onError.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.otus.hw.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+public class MicrometerMetricsConfiguration {
+
+    @Bean
+    public StatementMetricsListener micrometerStatementMetricsListener(ObjectProvider<MeterRegistry> registry) {
+        var meterRegistry = registry.getIfAvailable();
+        if (meterRegistry == null) {
+            return (name, durationNanos, rows, batchSize) -> { };
+        }
+        return new MicrometerStatementMetricsListener(meterRegistry);
+    }
+}
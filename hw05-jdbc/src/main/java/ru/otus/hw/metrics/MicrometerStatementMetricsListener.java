@@ -0,0 +1,48 @@
+package ru.otus.hw.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MicrometerStatementMetricsListener implements StatementMetricsListener {
+    private static final String TAG = "statement";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Meters> metersByName = new ConcurrentHashMap<>();
+
+    public MicrometerStatementMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onStatement(String name, long durationNanos, long rows, int batchSize) {
+        var meters = metersByName.computeIfAbsent(name, this::register);
+        meters.timer().record(durationNanos, TimeUnit.NANOSECONDS);
+        meters.rows().record(rows);
+        if (batchSize > 0) {
+            meters.batchSize().record(batchSize);
+        }
+    }
+
+    private Meters register(String name) {
+        return new Meters(
+                Timer.builder("library.jdbc.statement")
+                        .tag(TAG, name)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("library.jdbc.statement.rows")
+                        .tag(TAG, name)
+                        .register(registry),
+                DistributionSummary.builder("library.jdbc.statement.batch.size")
+                        .tag(TAG, name)
+                        .register(registry));
+    }
+
+    private record Meters(Timer timer, DistributionSummary rows, DistributionSummary batchSize) {
+    }
+}
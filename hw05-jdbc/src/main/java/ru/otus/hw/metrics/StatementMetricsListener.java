@@ -0,0 +1,5 @@
+package ru.otus.hw.metrics;
+
+public interface StatementMetricsListener {
+    void onStatement(String name, long durationNanos, long rows, int batchSize);
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.metrics;
+
+public record StatementStatistics(String name, long calls, long errors, long rows, long batches, long batchedRows,
+                                  long totalMicros, long p50Micros, long p99Micros, long maxMicros) {
+
+    public long getMeanMicros() {
+        return calls == 0 ? 0 : totalMicros / calls;
+    }
+}
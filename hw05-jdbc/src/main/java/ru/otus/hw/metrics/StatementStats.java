@@ -0,0 +1,87 @@
+package ru.otus.hw.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of a single statement. Latencies are kept in power-of-two buckets of microseconds:
+ * bucket {@code b > 0} holds values from {@code 2^(b-1)} to {@code 2^b - 1}, bucket 0 holds zero.
+ */
+class StatementStats {
+    private static final int BUCKETS_COUNT = Long.SIZE + 1;
+
+    private static final double MEDIAN = 0.5;
+
+    private static final double P99 = 0.99;
+
+    private final String name;
+
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS_COUNT);
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder batchedRows = new LongAdder();
+
+    private final LongAdder totalMicros = new LongAdder();
+
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    StatementStats(String name) {
+        this.name = name;
+    }
+
+    void record(long durationNanos, long rowsCount, int batchSize) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        latencyBuckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(micros));
+        calls.increment();
+        rows.add(rowsCount);
+        totalMicros.add(micros);
+        if (batchSize > 0) {
+            batches.increment();
+            batchedRows.add(batchSize);
+        }
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    StatementStatistics snapshot() {
+        long[] buckets = new long[BUCKETS_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets[i] = latencyBuckets.get(i);
+            total += buckets[i];
+        }
+        long max = maxMicros.get();
+        return new StatementStatistics(name, calls.sum(), errors.sum(), rows.sum(), batches.sum(),
+                batchedRows.sum(), totalMicros.sum(), percentile(buckets, total, MEDIAN, max),
+                percentile(buckets, total, P99, max), max);
+    }
+
+    private static long percentile(long[] buckets, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            cumulative += buckets[bucket];
+            if (cumulative >= rank) {
+                return Math.min(bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1, max);
+            }
+        }
+        return max;
+    }
+}
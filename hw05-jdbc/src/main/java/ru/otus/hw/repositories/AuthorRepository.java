@@ -5,9 +5,22 @@ import ru.otus.hw.models.Author;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface AuthorRepository {
     List<Author> findAll();
 
+    List<Author> findPage(long lastId, int limit);
+
+    Stream<Author> streamAll();
+
     Optional<Author> findById(long id);
+
+    List<Author> findAllByIds(Set<Long> ids);
+
+    /**
+     * Hook for writes that may change the author, drops its cached copy if there is a cache in front.
+     */
+    default void invalidate(long id) {
+    }
 }
@@ -2,15 +2,31 @@ package ru.otus.hw.repositories;
 
 import ru.otus.hw.models.Book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    List<Book> findPage(long lastId, int limit);
+
+    List<Book> search(BookSearchCriteria criteria);
+
+    Stream<Book> streamAll();
+
     Book save(Book book);
 
+    List<Book> saveAll(Collection<Book> books);
+
     void deleteById(long id);
+
+    int deleteByIds(Collection<Long> ids);
+
+    int deleteByAuthorId(long authorId);
+
+    int deleteByGenreId(long genreId);
 }
@@ -0,0 +1,32 @@
+package ru.otus.hw.repositories;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class BookSearchCriteria {
+    public static final int DEFAULT_LIMIT = 20;
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final Long authorId;
+
+    private final Long genreId;
+
+    private final String titlePrefix;
+
+    @Builder.Default
+    private final BookSortField sortBy = BookSortField.ID;
+
+    private final boolean descending;
+
+    @Builder.Default
+    private final int limit = DEFAULT_LIMIT;
+
+    public boolean hasTitlePrefix() {
+        return titlePrefix != null && !titlePrefix.isEmpty();
+    }
+}
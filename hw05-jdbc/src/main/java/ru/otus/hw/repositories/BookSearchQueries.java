@@ -0,0 +1,113 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds search statements from {@link BookSearchCriteria}. Only the shape of the criteria (present filters,
+ * sort field and direction) affects the SQL text, so each shape is rendered once and reused, which also lets
+ * the driver reuse its prepared statement plans. Values are always bound as parameters.
+ * The title prefix is also bound as a range so the title index can be used while the pattern is still unknown.
+ */
+class BookSearchQueries {
+    private static final int AUTHOR_FILTER = 1;
+
+    private static final int GENRE_FILTER = 1 << 1;
+
+    private static final int TITLE_FILTER = 1 << 2;
+
+    private static final int DESCENDING = 1 << 3;
+
+    private static final int SORT_FIELD_SHIFT = 4;
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private static final char TITLE_RANGE_END = Character.MAX_VALUE;
+
+    private final String selectSql;
+
+    private final Map<Integer, String> sqlByShape = new ConcurrentHashMap<>();
+
+    BookSearchQueries(String selectSql) {
+        this.selectSql = selectSql;
+    }
+
+    String sql(BookSearchCriteria criteria) {
+        return sqlByShape.computeIfAbsent(shape(criteria), this::render);
+    }
+
+    MapSqlParameterSource params(BookSearchCriteria criteria) {
+        if (criteria.getLimit() <= 0 || criteria.getLimit() > BookSearchCriteria.MAX_LIMIT) {
+            throw new IllegalArgumentException("Search limit must be between 1 and %d but was %d"
+                    .formatted(BookSearchCriteria.MAX_LIMIT, criteria.getLimit()));
+        }
+        var params = new MapSqlParameterSource("limit", criteria.getLimit());
+        if (criteria.getAuthorId() != null) {
+            params.addValue("authorId", criteria.getAuthorId());
+        }
+        if (criteria.getGenreId() != null) {
+            params.addValue("genreId", criteria.getGenreId());
+        }
+        if (criteria.hasTitlePrefix()) {
+            params.addValue("titleFrom", criteria.getTitlePrefix());
+            params.addValue("titleTo", criteria.getTitlePrefix() + TITLE_RANGE_END);
+            params.addValue("titlePrefix", escapeLike(criteria.getTitlePrefix()) + "%");
+        }
+        return params;
+    }
+
+    private static int shape(BookSearchCriteria criteria) {
+        int shape = criteria.getSortBy().ordinal() << SORT_FIELD_SHIFT;
+        if (criteria.getAuthorId() != null) {
+            shape |= AUTHOR_FILTER;
+        }
+        if (criteria.getGenreId() != null) {
+            shape |= GENRE_FILTER;
+        }
+        if (criteria.hasTitlePrefix()) {
+            shape |= TITLE_FILTER;
+        }
+        if (criteria.isDescending()) {
+            shape |= DESCENDING;
+        }
+        return shape;
+    }
+
+    private String render(int shape) {
+        var sql = new StringBuilder(selectSql);
+        String keyword = " WHERE ";
+        if ((shape & AUTHOR_FILTER) != 0) {
+            sql.append(keyword).append("b.author_id = :authorId");
+            keyword = " AND ";
+        }
+        if ((shape & GENRE_FILTER) != 0) {
+            sql.append(keyword).append("b.genre_id = :genreId");
+            keyword = " AND ";
+        }
+        if ((shape & TITLE_FILTER) != 0) {
+            sql.append(keyword).append("b.title >= :titleFrom AND b.title < :titleTo")
+                    .append(" AND b.title LIKE :titlePrefix ESCAPE '").append(LIKE_ESCAPE).append('\'');
+        }
+        var sortField = BookSortField.values()[shape >>> SORT_FIELD_SHIFT];
+        String direction = (shape & DESCENDING) != 0 ? " DESC" : " ASC";
+        sql.append(" ORDER BY ").append(sortField.getColumn()).append(direction);
+        if (sortField != BookSortField.ID) {
+            sql.append(", b.id").append(direction);
+        }
+        return sql.append(" LIMIT :limit").toString();
+    }
+
+    private static String escapeLike(String value) {
+        var escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package ru.otus.hw.repositories;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor
+public enum BookSortField {
+    ID("b.id"),
+    TITLE("b.title"),
+    AUTHOR("a.full_name"),
+    GENRE("g.name");
+
+    private final String column;
+
+    public static Optional<BookSortField> findByName(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    public static String names() {
+        return Arrays.stream(values())
+                .map(field -> field.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "));
+    }
+}
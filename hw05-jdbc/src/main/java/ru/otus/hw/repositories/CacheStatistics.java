@@ -0,0 +1,4 @@
+package ru.otus.hw.repositories;
+
+public record CacheStatistics(String name, long hits, long misses, long evictions, int size, int maxSize) {
+}
@@ -0,0 +1,67 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.models.Author;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "library.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingAuthorRepository implements AuthorRepository {
+    private final AuthorRepository delegate;
+
+    private final ReferenceCache<Author> cache;
+
+    public CachingAuthorRepository(JdbcAuthorRepository delegate,
+                                   @Value("${library.cache.max-size:10000}") int maxSize) {
+        this.delegate = delegate;
+        this.cache = new ReferenceCache<>("authors", maxSize, Author::getId);
+    }
+
+    @Override
+    public List<Author> findAll() {
+        var authors = delegate.findAll();
+        cache.putAll(authors);
+        return authors;
+    }
+
+    @Override
+    public List<Author> findPage(long lastId, int limit) {
+        return delegate.findPage(lastId, limit);
+    }
+
+    @Override
+    public Stream<Author> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Optional<Author> findById(long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Author> findAllByIds(Set<Long> ids) {
+        return cache.getAll(ids, delegate::findAllByIds);
+    }
+
+    @Override
+    public void invalidate(long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+}
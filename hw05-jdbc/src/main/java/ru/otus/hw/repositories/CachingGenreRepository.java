@@ -0,0 +1,56 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "library.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingGenreRepository implements GenreRepository {
+    private final GenreRepository delegate;
+
+    private final ReferenceCache<Genre> cache;
+
+    public CachingGenreRepository(JdbcGenreRepository delegate,
+                                  @Value("${library.cache.max-size:10000}") int maxSize) {
+        this.delegate = delegate;
+        this.cache = new ReferenceCache<>("genres", maxSize, Genre::getId);
+    }
+
+    @Override
+    public List<Genre> findAll() {
+        var genres = delegate.findAll();
+        cache.putAll(genres);
+        return genres;
+    }
+
+    @Override
+    public Optional<Genre> findById(long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Genre> findAllByIds(Set<Long> ids) {
+        return cache.getAll(ids, delegate::findAllByIds);
+    }
+
+    @Override
+    public void invalidate(long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+}
@@ -10,4 +10,12 @@ public interface GenreRepository {
     List<Genre> findAll();
 
     Optional<Genre> findById(long id);
+
+    List<Genre> findAllByIds(Set<Long> ids);
+
+    /**
+     * Hook for writes that may change the genre, drops its cached copy if there is a cache in front.
+     */
+    default void invalidate(long id) {
+    }
 }
@@ -1,9 +1,11 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Author;
 
 import java.sql.ResultSet;
@@ -12,30 +14,72 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class JdbcAuthorRepository implements AuthorRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    private final JdbcStatementMetrics metrics;
+
     @Autowired
-    public JdbcAuthorRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcAuthorRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                JdbcStatementMetrics metrics,
+                                @Value("${library.jdbc.fetch-size:1000}") int fetchSize) {
         this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = StreamingJdbcTemplates.withFetchSize(jdbcTemplate, fetchSize);
+        this.metrics = metrics;
     }
 
     @Override
     public List<Author> findAll() {
-        return jdbcTemplate.query("SELECT id, full_name FROM authors", new AuthorRowMapper());
+        return metrics.query("authors.findAll",
+                () -> jdbcTemplate.query("SELECT id, full_name FROM authors", new AuthorRowMapper()));
+    }
+
+    @Override
+    public List<Author> findPage(long lastId, int limit) {
+        var params = Map.of("lastId", lastId, "limit", limit);
+        return metrics.query("authors.findPage", () -> jdbcTemplate.query(
+                "SELECT id, full_name FROM authors WHERE id > :lastId ORDER BY id LIMIT :limit",
+                params,
+                new AuthorRowMapper()
+        ));
+    }
+
+    @Override
+    public Stream<Author> streamAll() {
+        return metrics.stream("authors.streamAll", () -> streamingJdbcTemplate.queryForStream(
+                "SELECT id, full_name FROM authors ORDER BY id",
+                Map.of(),
+                new AuthorRowMapper()
+        ));
     }
 
     @Override
     public Optional<Author> findById(long id) {
         var params = Map.of("id", id);
-        return jdbcTemplate.query(
+        return metrics.query("authors.findById", () -> jdbcTemplate.query(
                 "SELECT id, full_name FROM authors WHERE id = :id",
                 params,
                 new AuthorRowMapper()
-        ).stream().findFirst();
+        )).stream().findFirst();
+    }
+
+    @Override
+    public List<Author> findAllByIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var params = Map.of("ids", ids);
+        return metrics.query("authors.findAllByIds", () -> jdbcTemplate.query(
+                "SELECT id, full_name FROM authors WHERE id IN (:ids)",
+                params,
+                new AuthorRowMapper()
+        ));
     }
 
     private static class AuthorRowMapper implements RowMapper<Author> {
@@ -1,58 +1,112 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class JdbcBookRepository implements BookRepository {
+    static final String SELECT_SQL = "SELECT b.id, b.title, " +
+            "a.id as author_id, a.full_name as author_name, " +
+            "g.id as genre_id, g.name as genre_name " +
+            "FROM books b " +
+            "INNER JOIN authors a ON b.author_id = a.id " +
+            "INNER JOIN genres g ON b.genre_id = g.id";
+
+    // Outer joins keep books as the driving table, so filters on books columns can use their indexes
+    static final String SEARCH_SELECT_SQL = "SELECT b.id, b.title, " +
+            "a.id as author_id, a.full_name as author_name, " +
+            "g.id as genre_id, g.name as genre_name " +
+            "FROM books b " +
+            "LEFT JOIN authors a ON b.author_id = a.id " +
+            "LEFT JOIN genres g ON b.genre_id = g.id";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO books (title, author_id, genre_id) VALUES (:title, :author_id, :genre_id)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE books SET title = :title, author_id = :author_id, genre_id = :genre_id WHERE id = :id";
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    private final JdbcStatementMetrics metrics;
+
+    private final BookSearchQueries searchQueries = new BookSearchQueries(SEARCH_SELECT_SQL);
+
+    private final int batchSize;
+
     @Autowired
-    public JdbcBookRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBookRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                              JdbcStatementMetrics metrics,
+                              @Value("${library.jdbc.batch-size:500}") int batchSize,
+                              @Value("${library.jdbc.fetch-size:1000}") int fetchSize) {
         this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = StreamingJdbcTemplates.withFetchSize(jdbcTemplate, fetchSize);
+        this.metrics = metrics;
+        this.batchSize = batchSize;
     }
 
     @Override
     public Optional<Book> findById(long id) {
         var params = Map.of("id", id);
-        return jdbcTemplate.query(
-                "SELECT b.id, b.title, " +
-                        "a.id as author_id, a.full_name as author_name, " +
-                        "g.id as genre_id, g.name as genre_name " +
-                        "FROM books b " +
-                        "INNER JOIN authors a ON b.author_id = a.id " +
-                        "INNER JOIN genres g ON b.genre_id = g.id " +
-                        "WHERE b.id = :id",
+        return metrics.query("books.findById", () -> jdbcTemplate.query(
+                SELECT_SQL + " WHERE b.id = :id",
                 params,
                 new BookRowMapper()
-        ).stream().findFirst();
+        )).stream().findFirst();
     }
 
     @Override
     public List<Book> findAll() {
-        return jdbcTemplate.query(
-                "SELECT b.id, b.title, " +
-                        "a.id as author_id, a.full_name as author_name, " +
-                        "g.id as genre_id, g.name as genre_name " +
-                        "FROM books b " +
-                        "INNER JOIN authors a ON b.author_id = a.id " +
-                        "INNER JOIN genres g ON b.genre_id = g.id",
+        return metrics.query("books.findAll", () -> jdbcTemplate.query(SELECT_SQL, new BookRowMapper()));
+    }
+
+    @Override
+    public List<Book> findPage(long lastId, int limit) {
+        var params = Map.of("lastId", lastId, "limit", limit);
+        return metrics.query("books.findPage", () -> jdbcTemplate.query(
+                SELECT_SQL + " WHERE b.id > :lastId ORDER BY b.id LIMIT :limit",
+                params,
                 new BookRowMapper()
-        );
+        ));
+    }
+
+    @Override
+    public List<Book> search(BookSearchCriteria criteria) {
+        var params = searchQueries.params(criteria);
+        return metrics.query("books.search",
+                () -> jdbcTemplate.query(searchQueries.sql(criteria), params, new BookRowMapper()));
+    }
+
+    @Override
+    public Stream<Book> streamAll() {
+        return metrics.stream("books.streamAll", () -> streamingJdbcTemplate.queryForStream(
+                SELECT_SQL + " ORDER BY b.id",
+                Map.of(),
+                new BookRowMapper()
+        ));
     }
 
     @Override
@@ -63,25 +117,60 @@ public class JdbcBookRepository implements BookRepository {
         return update(book);
     }
 
+    @Override
+    public List<Book> saveAll(Collection<Book> books) {
+        var newBooks = new ArrayList<Book>();
+        var existingBooks = new ArrayList<Book>();
+        for (var book : books) {
+            (book.getId() == 0 ? newBooks : existingBooks).add(book);
+        }
+        for (int from = 0; from < newBooks.size(); from += batchSize) {
+            batchInsert(newBooks.subList(from, Math.min(from + batchSize, newBooks.size())));
+        }
+        for (int from = 0; from < existingBooks.size(); from += batchSize) {
+            batchUpdate(existingBooks.subList(from, Math.min(from + batchSize, existingBooks.size())));
+        }
+        return List.copyOf(books);
+    }
+
     @Override
     public void deleteById(long id) {
         var params = Map.of("id", id);
-        jdbcTemplate.update("DELETE FROM books WHERE id = :id", params);
+        metrics.update("books.deleteById",
+                () -> jdbcTemplate.update("DELETE FROM books WHERE id = :id", params));
+    }
+
+    @Override
+    public int deleteByIds(Collection<Long> ids) {
+        var distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+            var params = Map.of("ids", distinctIds.subList(from, Math.min(from + batchSize, distinctIds.size())));
+            deleted += metrics.update("books.deleteByIds",
+                    () -> jdbcTemplate.update("DELETE FROM books WHERE id IN (:ids)", params));
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteByAuthorId(long authorId) {
+        var params = Map.of("authorId", authorId);
+        return metrics.update("books.deleteByAuthorId",
+                () -> jdbcTemplate.update("DELETE FROM books WHERE author_id = :authorId", params));
+    }
+
+    @Override
+    public int deleteByGenreId(long genreId) {
+        var params = Map.of("genreId", genreId);
+        return metrics.update("books.deleteByGenreId",
+                () -> jdbcTemplate.update("DELETE FROM books WHERE genre_id = :genreId", params));
     }
 
     private Book insert(Book book) {
         var keyHolder = new GeneratedKeyHolder();
-        var params = new MapSqlParameterSource();
-        params.addValue("title", book.getTitle());
-        params.addValue("author_id", book.getAuthor().getId());
-        params.addValue("genre_id", book.getGenre().getId());
 
-        jdbcTemplate.update(
-                "INSERT INTO books (title, author_id, genre_id) VALUES (:title, :author_id, :genre_id)",
-                params,
-                keyHolder,
-                new String[]{"id"}
-        );
+        metrics.update("books.insert",
+                () -> jdbcTemplate.update(INSERT_SQL, toParams(book), keyHolder, new String[]{"id"}));
 
         book.setId(keyHolder.getKeyAs(Long.class));
         return book;
@@ -95,10 +184,7 @@ public class JdbcBookRepository implements BookRepository {
                 "genre_id", book.getGenre().getId()
         );
 
-        int updated = jdbcTemplate.update(
-                "UPDATE books SET title = :title, author_id = :author_id, genre_id = :genre_id WHERE id = :id",
-                params
-        );
+        int updated = metrics.update("books.update", () -> jdbcTemplate.update(UPDATE_SQL, params));
 
         if (updated == 0) {
             throw new EntityNotFoundException("No book with id = " + book.getId());
@@ -107,18 +193,67 @@ public class JdbcBookRepository implements BookRepository {
         return book;
     }
 
-    private static class BookRowMapper implements RowMapper<Book> {
+    private void batchInsert(List<Book> books) {
+        var keyHolder = new GeneratedKeyHolder();
+        metrics.batchUpdate("books.batchInsert", books.size(),
+                () -> jdbcTemplate.batchUpdate(INSERT_SQL, toParams(books), keyHolder, new String[]{"id"}));
+
+        var keys = keyHolder.getKeyList();
+        for (int i = 0; i < books.size(); i++) {
+            books.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+
+    private void batchUpdate(List<Book> books) {
+        int[] updated = metrics.batchUpdate("books.batchUpdate", books.size(),
+                () -> jdbcTemplate.batchUpdate(UPDATE_SQL, toParams(books)));
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new EntityNotFoundException("No book with id = " + books.get(i).getId());
+            }
+        }
+    }
+
+    private static SqlParameterSource[] toParams(List<Book> books) {
+        var params = new SqlParameterSource[books.size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = toParams(books.get(i));
+        }
+        return params;
+    }
+
+    private static MapSqlParameterSource toParams(Book book) {
+        return new MapSqlParameterSource()
+                .addValue("id", book.getId())
+                .addValue("title", book.getTitle())
+                .addValue("author_id", book.getAuthor().getId())
+                .addValue("genre_id", book.getGenre().getId());
+    }
+
+    /**
+     * Maps joined book rows sharing one {@link Author} and {@link Genre} instance per id.
+     * A new mapper must be created for every query so the identity maps live only as long as the result set.
+     */
+    static class BookRowMapper implements RowMapper<Book> {
+        private final LongIdentityMap<Author> authors = new LongIdentityMap<>();
+
+        private final LongIdentityMap<Genre> genres = new LongIdentityMap<>();
+
         @Override
         public Book mapRow(ResultSet rs, int rowNum) throws SQLException {
-            var author = new Author(
-                    rs.getLong("author_id"),
-                    rs.getString("author_name")
-            );
+            long authorId = rs.getLong("author_id");
+            var author = authors.get(authorId);
+            if (author == null) {
+                author = new Author(authorId, rs.getString("author_name"));
+                authors.put(authorId, author);
+            }
 
-            var genre = new Genre(
-                    rs.getLong("genre_id"),
-                    rs.getString("genre_name")
-            );
+            long genreId = rs.getLong("genre_id");
+            var genre = genres.get(genreId);
+            if (genre == null) {
+                genre = new Genre(genreId, rs.getString("genre_name"));
+                genres.put(genreId, genre);
+            }
 
             return new Book(
                     rs.getLong("id"),
@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Genre;
 
 import java.sql.ResultSet;
@@ -11,29 +12,47 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class JdbcGenreRepository implements GenreRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    private final JdbcStatementMetrics metrics;
+
     @Autowired
-    public JdbcGenreRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcGenreRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcStatementMetrics metrics) {
         this.jdbcTemplate = jdbcTemplate;
+        this.metrics = metrics;
     }
 
     @Override
     public List<Genre> findAll() {
-        return jdbcTemplate.query("SELECT id, name FROM genres", new GenreRowMapper());
+        return metrics.query("genres.findAll",
+                () -> jdbcTemplate.query("SELECT id, name FROM genres", new GenreRowMapper()));
     }
 
     @Override
     public Optional<Genre> findById(long id) {
         var params = Map.of("id", id);
-        return jdbcTemplate.query(
+        return metrics.query("genres.findById", () -> jdbcTemplate.query(
                 "SELECT id, name FROM genres WHERE id = :id",
                 params,
                 new GenreRowMapper()
-        ).stream().findFirst();
+        )).stream().findFirst();
+    }
+
+    @Override
+    public List<Genre> findAllByIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var params = Map.of("ids", ids);
+        return metrics.query("genres.findAllByIds", () -> jdbcTemplate.query(
+                "SELECT id, name FROM genres WHERE id IN (:ids)",
+                params,
+                new GenreRowMapper()
+        ));
     }
 
     private static class GenreRowMapper implements RowMapper<Genre> {
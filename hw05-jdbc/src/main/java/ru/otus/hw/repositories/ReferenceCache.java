@@ -0,0 +1,122 @@
+package ru.otus.hw.repositories;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded thread-safe id-keyed cache for rarely changing reference data. When the bound is exceeded
+ * the least recently used entry is evicted. Access order is kept by a {@link LinkedHashMap}, so every
+ * lookup takes the cache monitor, which is cheap next to the SELECT it saves.
+ */
+public class ReferenceCache<T> {
+    private final String name;
+
+    private final int maxSize;
+
+    private final ToLongFunction<T> idExtractor;
+
+    private final Map<Long, T> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public ReferenceCache(String name, int maxSize, ToLongFunction<T> idExtractor) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be positive but was " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.idExtractor = idExtractor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, T> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<T> get(long id, LongFunction<Optional<T>> loader) {
+        var cached = lookup(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        var loaded = loader.apply(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public List<T> getAll(Set<Long> ids, Function<Set<Long>, List<T>> loader) {
+        var result = new ArrayList<T>(ids.size());
+        var missing = new HashSet<Long>();
+        for (var id : ids) {
+            var cached = lookup(id);
+            if (cached != null) {
+                result.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.add(result.size());
+        misses.add(missing.size());
+        if (!missing.isEmpty()) {
+            var loaded = loader.apply(missing);
+            putAll(loaded);
+            result.addAll(loaded);
+        }
+        return result;
+    }
+
+    public void putAll(List<T> values) {
+        values.forEach(this::put);
+    }
+
+    public void put(T value) {
+        synchronized (entries) {
+            entries.put(idExtractor.applyAsLong(value), value);
+        }
+    }
+
+    public void invalidate(long id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStatistics(name, hits.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    private T lookup(long id) {
+        synchronized (entries) {
+            return entries.get(id);
+        }
+    }
+}
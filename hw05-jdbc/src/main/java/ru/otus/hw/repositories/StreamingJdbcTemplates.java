@@ -0,0 +1,18 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+final class StreamingJdbcTemplates {
+
+    private StreamingJdbcTemplates() {
+    }
+
+    static NamedParameterJdbcTemplate withFetchSize(NamedParameterJdbcTemplate jdbcTemplate, int fetchSize) {
+        var source = jdbcTemplate.getJdbcTemplate();
+        var streaming = new JdbcTemplate(source.getDataSource());
+        streaming.setExceptionTranslator(source.getExceptionTranslator());
+        streaming.setFetchSize(fetchSize);
+        return new NamedParameterJdbcTemplate(streaming);
+    }
+}
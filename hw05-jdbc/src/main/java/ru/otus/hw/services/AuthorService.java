@@ -3,7 +3,10 @@ package ru.otus.hw.services;
 import ru.otus.hw.models.Author;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AuthorService {
     List<Author> findAll();
+
+    Stream<Author> streamAll();
 }
@@ -0,0 +1,127 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports books chunk by chunk, every chunk is stored in its own transaction, so a large file never holds one
+ * long transaction. A broken line fails the import, chunks before it stay committed.
+ */
+@RequiredArgsConstructor
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final char FIELD_SEPARATOR = ';';
+
+    private final AuthorRepository authorRepository;
+
+    private final GenreRepository genreRepository;
+
+    private final BookRepository bookRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public long importBooks(Path file) {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long imported = 0;
+            int lineNumber = 0;
+            var chunk = new ArrayList<BookLine>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(line, lineNumber));
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += saveInTransaction(chunk);
+                    chunk.clear();
+                }
+            }
+            return imported + saveInTransaction(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read books from " + file, e);
+        }
+    }
+
+    private int saveInTransaction(List<BookLine> chunk) {
+        Integer saved = transactionTemplate.execute(status -> save(chunk));
+        return saved != null ? saved : 0;
+    }
+
+    private int save(List<BookLine> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Set<Long> authorIds = new HashSet<>();
+        Set<Long> genreIds = new HashSet<>();
+        for (var bookLine : chunk) {
+            authorIds.add(bookLine.authorId());
+            genreIds.add(bookLine.genreId());
+        }
+        Map<Long, Author> authors = authorRepository.findAllByIds(authorIds).stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+        Map<Long, Genre> genres = genreRepository.findAllByIds(genreIds).stream()
+                .collect(Collectors.toMap(Genre::getId, Function.identity()));
+
+        var books = new ArrayList<Book>(chunk.size());
+        for (var bookLine : chunk) {
+            var author = authors.get(bookLine.authorId());
+            if (author == null) {
+                throw new EntityNotFoundException("Author with id %d not found (line %d)"
+                        .formatted(bookLine.authorId(), bookLine.lineNumber()));
+            }
+            var genre = genres.get(bookLine.genreId());
+            if (genre == null) {
+                throw new EntityNotFoundException("Genre with id %d not found (line %d)"
+                        .formatted(bookLine.genreId(), bookLine.lineNumber()));
+            }
+            books.add(new Book(0, bookLine.title(), author, genre));
+        }
+        return bookRepository.saveAll(books).size();
+    }
+
+    private static BookLine parse(String line, int lineNumber) {
+        int genreSeparator = line.lastIndexOf(FIELD_SEPARATOR);
+        int authorSeparator = genreSeparator > 0 ? line.lastIndexOf(FIELD_SEPARATOR, genreSeparator - 1) : -1;
+        if (authorSeparator <= 0) {
+            throw new IllegalArgumentException("Line %d: expected 'title;authorId;genreId' but was '%s'"
+                    .formatted(lineNumber, line));
+        }
+        try {
+            return new BookLine(line.substring(0, authorSeparator),
+                    Long.parseLong(line.substring(authorSeparator + 1, genreSeparator).trim()),
+                    Long.parseLong(line.substring(genreSeparator + 1).trim()),
+                    lineNumber);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Line %d: invalid author or genre id in '%s'"
+                    .formatted(lineNumber, line), e);
+        }
+    }
+
+    private record BookLine(String title, long authorId, long genreId, int lineNumber) {
+    }
+}
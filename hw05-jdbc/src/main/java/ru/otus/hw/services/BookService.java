@@ -1,18 +1,33 @@
 package ru.otus.hw.services;
 
 import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookSearchCriteria;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookService {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    List<Book> findPage(long lastId, int limit);
+
+    List<Book> search(BookSearchCriteria criteria);
+
+    Stream<Book> streamAll();
+
     Book insert(String title, long authorId, long genreId);
 
     Book update(long id, String title, long authorId, long genreId);
 
     void deleteById(long id);
+
+    int deleteByIds(Collection<Long> ids);
+
+    int deleteByAuthorId(long authorId);
+
+    int deleteByGenreId(long genreId);
 }
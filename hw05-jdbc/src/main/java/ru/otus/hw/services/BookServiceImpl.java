@@ -2,14 +2,18 @@ package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.BookSearchCriteria;
 import ru.otus.hw.repositories.GenreRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
@@ -20,16 +24,35 @@ public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Book> findById(long id) {
         return bookRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<Book> findAll() {
         return bookRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Book> findPage(long lastId, int limit) {
+        return bookRepository.findPage(lastId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Book> search(BookSearchCriteria criteria) {
+        return bookRepository.search(criteria);
+    }
+
+    @Override
+    public Stream<Book> streamAll() {
+        return bookRepository.streamAll();
+    }
+
     @Override
     public Book insert(String title, long authorId, long genreId) {
         return save(0, title, authorId, genreId);
@@ -45,6 +68,24 @@ public class BookServiceImpl implements BookService {
         bookRepository.deleteById(id);
     }
 
+    @Transactional
+    @Override
+    public int deleteByIds(Collection<Long> ids) {
+        return bookRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public int deleteByAuthorId(long authorId) {
+        authorRepository.invalidate(authorId);
+        return bookRepository.deleteByAuthorId(authorId);
+    }
+
+    @Override
+    public int deleteByGenreId(long genreId) {
+        genreRepository.invalidate(genreId);
+        return bookRepository.deleteByGenreId(genreId);
+    }
+
     private Book save(long id, String title, long authorId, long genreId) {
         var author = authorRepository.findById(authorId)
                 .orElseThrow(() -> new EntityNotFoundException("Author with id %d not found".formatted(authorId)));
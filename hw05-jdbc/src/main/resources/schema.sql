@@ -13,7 +13,19 @@ create table genres (
 create table books (
     id bigserial,
     title varchar(255),
-    author_id bigint references authors (id) on delete cascade,
-    genre_id bigint references genres(id) on delete cascade,
+    author_id bigint not null,
+    genre_id bigint not null,
     primary key (id)
-);
\ No newline at end of file
+);
+
+create index idx_books_author_id on books (author_id);
+
+create index idx_books_genre_id on books (genre_id);
+
+create index idx_books_title on books (title);
+
+alter table books add constraint fk_books_author_id
+    foreign key (author_id) references authors (id) on delete cascade;
+
+alter table books add constraint fk_books_genre_id
+    foreign key (genre_id) references genres (id) on delete cascade;
@@ -0,0 +1,45 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Настройки пула соединений")
+class PoolPropertiesTest {
+
+    @Test
+    @DisplayName("должен вычислять размер пула по числу ядер, если он не задан")
+    void shouldUseDefaultPoolSizeWhenMaximumIsNotSet() {
+        var properties = new PoolProperties();
+
+        int expected = PoolProperties.defaultPoolSize(Runtime.getRuntime().availableProcessors());
+        assertThat(properties.getEffectiveMaximumPoolSize()).isEqualTo(expected);
+        assertThat(properties.getEffectiveMinimumIdle()).isEqualTo(expected);
+        assertThat(PoolProperties.defaultPoolSize(4)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("должен использовать заданный размер пула и число простаивающих соединений")
+    void shouldUseExplicitSizes() {
+        var properties = new PoolProperties();
+        properties.setMaximumPoolSize(10);
+        properties.setMinimumIdle(2);
+
+        assertThat(properties.getEffectiveMaximumPoolSize()).isEqualTo(10);
+        assertThat(properties.getEffectiveMinimumIdle()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("должен ограничивать число простаивающих соединений размером пула")
+    void shouldCapMinimumIdleByMaximumPoolSize() {
+        var properties = new PoolProperties();
+        properties.setMaximumPoolSize(3);
+
+        assertThat(properties.getEffectiveMinimumIdle()).isEqualTo(3);
+        properties.setMinimumIdle(8);
+        assertThat(properties.getEffectiveMinimumIdle()).isEqualTo(3);
+        properties.setMinimumIdle(0);
+        assertThat(properties.getEffectiveMinimumIdle()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+import ru.otus.hw.services.AuthorService;
+import ru.otus.hw.services.AuthorServiceImpl;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.BookServiceImpl;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Маршрутизация запросов между основной БД и репликой")
+@SpringJUnitConfig(ReadWriteRoutingDataSourceTest.RoutingConfiguration.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Test
+    @DisplayName("должен читать авторов и книги в read-only транзакциях с реплики")
+    void shouldReadFromReplica() {
+        long replicaConnections = connections(DataSourceRoute.REPLICA);
+
+        assertThat(authorService.findAll()).extracting(Author::getFullName)
+                .containsExactlyInAnyOrder("Replica_Author_1", "Replica_Author_2", "Replica_Author_3");
+        assertThat(bookService.findById(1L)).get().extracting(Book::getTitle).isEqualTo("Replica_BookTitle_1");
+
+        assertThat(connections(DataSourceRoute.REPLICA)).isEqualTo(replicaConnections + 2);
+    }
+
+    @Test
+    @DisplayName("должен выполнять запись и чтение вне read-only транзакций на основной БД")
+    void shouldWriteToPrimary() {
+        long primaryConnections = connections(DataSourceRoute.PRIMARY);
+        long replicaConnections = connections(DataSourceRoute.REPLICA);
+
+        var book = bookService.insert("New_Book", 1L, 1L);
+
+        assertThat(book.getAuthor().getFullName()).isEqualTo("Author_1");
+        assertThat(new JdbcTemplate(primaryDataSource)
+                .queryForObject("select title from books where id = ?", String.class, book.getId()))
+                .isEqualTo("New_Book");
+        assertThat(bookService.findById(book.getId())).isEmpty();
+        try (var books = bookService.streamAll()) {
+            assertThat(books.map(Book::getTitle)).contains("New_Book");
+        }
+        assertThat(connections(DataSourceRoute.PRIMARY)).isGreaterThan(primaryConnections);
+        assertThat(connections(DataSourceRoute.REPLICA)).isEqualTo(replicaConnections + 1);
+    }
+
+    private long connections(DataSourceRoute route) {
+        return routingDataSource.getStatistics().stream()
+                .filter(s -> s.route() == route)
+                .mapToLong(DataSourceRouteStatistics::connections)
+                .sum();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({JdbcStatementMetrics.class, JdbcAuthorRepository.class, JdbcGenreRepository.class,
+            JdbcBookRepository.class, AuthorServiceImpl.class, BookServiceImpl.class})
+    static class RoutingConfiguration {
+
+        @Bean(destroyMethod = "shutdown")
+        public EmbeddedDatabase primaryDataSource() {
+            return database("primary");
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        public EmbeddedDatabase replicaDataSource() {
+            var replica = database("replica");
+            var jdbcTemplate = new JdbcTemplate(replica);
+            jdbcTemplate.update("update authors set full_name = 'Replica_' || full_name");
+            jdbcTemplate.update("update books set title = 'Replica_' || title");
+            return replica;
+        }
+
+        @Bean
+        public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                            @Qualifier("replicaDataSource") DataSource replica) {
+            return new ReadWriteRoutingDataSource(primary, replica);
+        }
+
+        @Primary
+        @Bean
+        public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+
+        @Bean
+        public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+            return new NamedParameterJdbcTemplate(dataSource);
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        private static EmbeddedDatabase database(String name) {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .setName(name)
+                    .addScripts("schema.sql", "data.sql")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.otus.hw.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Метрики JDBC-запросов")
+class JdbcStatementMetricsTest {
+
+    @Test
+    @DisplayName("должен учитывать вызовы, строки, батчи и ошибки по имени запроса")
+    void shouldAggregateStatisticsByStatementName() {
+        var metrics = new JdbcStatementMetrics();
+
+        metrics.query("books.findAll", () -> List.of(1, 2, 3));
+        metrics.query("books.findAll", () -> List.of(4));
+        metrics.update("books.deleteById", () -> 1);
+        metrics.batchUpdate("books.batchInsert", 3, () -> new int[]{1, 1, 1});
+        assertThatThrownBy(() -> metrics.update("books.deleteById", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        try (var stream = metrics.stream("books.streamAll", () -> Stream.of(1, 2))) {
+            assertThat(stream.toList()).hasSize(2);
+        }
+
+        assertThat(metrics.getStatistics())
+                .extracting(StatementStatistics::name, StatementStatistics::calls, StatementStatistics::errors,
+                        StatementStatistics::rows, StatementStatistics::batches, StatementStatistics::batchedRows)
+                .containsExactlyInAnyOrder(
+                        tuple("books.findAll", 2L, 0L, 4L, 0L, 0L),
+                        tuple("books.deleteById", 1L, 1L, 1L, 0L, 0L),
+                        tuple("books.batchInsert", 1L, 0L, 3L, 1L, 3L),
+                        tuple("books.streamAll", 1L, 0L, 2L, 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("должен учитывать ошибку при чтении потока как ошибку, а не успешный вызов")
+    void shouldRecordErrorWhenStreamFailsWhileIterating() {
+        var metrics = new JdbcStatementMetrics();
+
+        try (var stream = metrics.stream("books.streamAll", () -> Stream.of(1, 2, 3).map(row -> {
+            if (row == 3) {
+                throw new DataAccessResourceFailureException("Connection lost");
+            }
+            return row;
+        }))) {
+            assertThatThrownBy(stream::toList).isInstanceOf(DataAccessResourceFailureException.class);
+        }
+
+        assertThat(metrics.getStatistics())
+                .extracting(StatementStatistics::name, StatementStatistics::calls, StatementStatistics::errors,
+                        StatementStatistics::rows)
+                .containsExactly(tuple("books.streamAll", 0L, 1L, 0L));
+    }
+
+    @Test
+    @DisplayName("должен публиковать метрики в Micrometer")
+    void shouldPublishToMicrometer() {
+        var registry = new SimpleMeterRegistry();
+        var metrics = new JdbcStatementMetrics(List.of(new MicrometerStatementMetricsListener(registry)));
+
+        metrics.query("genres.findAll", () -> List.of(1, 2));
+        metrics.batchUpdate("books.batchUpdate", 2, () -> new int[]{1, 1});
+
+        assertThat(registry.get("library.jdbc.statement").tag("statement", "genres.findAll").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("library.jdbc.statement.rows").tag("statement", "genres.findAll").summary()
+                .totalAmount()).isEqualTo(2);
+        assertThat(registry.get("library.jdbc.statement.batch.size").tag("statement", "books.batchUpdate")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.otus.hw.repositories;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares allocation of {@link JdbcBookRepository.BookRowMapper} with a mapper creating new authors and genres
+ * for every row. Run with {@link #main(String[])}, allocation per operation is reported as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BookRowMapperBenchmark {
+
+    private static final int AUTHORS_COUNT = 2000;
+
+    private static final int GENRES_COUNT = 50;
+
+    private static final RowMapper<Book> ROW_PER_OBJECT_MAPPER = (rs, rowNum) -> new Book(
+            rs.getLong("id"),
+            rs.getString("title"),
+            new Author(rs.getLong("author_id"), rs.getString("author_name")),
+            new Genre(rs.getLong("genre_id"), rs.getString("genre_name")));
+
+    @Param({"100000", "1000000"})
+    private int booksCount;
+
+    private EmbeddedDatabase database;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.update("INSERT INTO authors(full_name) SELECT 'Author_' || x FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT);
+        jdbcTemplate.update("INSERT INTO genres(name) SELECT 'Genre_' || x FROM SYSTEM_RANGE(1, ?)", GENRES_COUNT);
+        jdbcTemplate.update("INSERT INTO books(title, author_id, genre_id) " +
+                        "SELECT 'BookTitle_' || x, MOD(x, ?) + 1, MOD(x, ?) + 1 FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT, GENRES_COUNT, booksCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Book> identityMapMapper() {
+        return jdbcTemplate.query(JdbcBookRepository.SELECT_SQL, new JdbcBookRepository.BookRowMapper());
+    }
+
+    @Benchmark
+    public List<Book> objectPerRowMapper() {
+        return jdbcTemplate.query(JdbcBookRepository.SELECT_SQL, ROW_PER_OBJECT_MAPPER);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookRowMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,26 @@
+package ru.otus.hw.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тексты запросов поиска книг")
+class BookSearchQueriesTest {
+
+    @DisplayName("должен переиспользовать текст запроса для одинаковой формы критериев")
+    @Test
+    void shouldCacheSearchStatementByShape() {
+        var queries = new BookSearchQueries(JdbcBookRepository.SEARCH_SELECT_SQL);
+        var first = queries.sql(BookSearchCriteria.builder().authorId(1L).titlePrefix("a").build());
+        var second = queries.sql(BookSearchCriteria.builder().authorId(2L).titlePrefix("b").limit(5).build());
+        var descending = queries.sql(BookSearchCriteria.builder().authorId(2L).titlePrefix("b").descending(true)
+                .build());
+
+        assertThat(second).isSameAs(first);
+        assertThat(descending).isNotEqualTo(first);
+        assertThatThrownBy(() -> queries.params(BookSearchCriteria.builder().limit(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
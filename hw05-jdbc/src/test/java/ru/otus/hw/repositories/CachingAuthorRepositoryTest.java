@@ -0,0 +1,80 @@
+package ru.otus.hw.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.models.Author;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кэширующий репозиторий авторов")
+@JdbcTest
+@Import({JdbcAuthorRepository.class, JdbcStatementMetrics.class})
+class CachingAuthorRepositoryTest {
+
+    private static final int CACHE_MAX_SIZE = 2;
+
+    @Autowired
+    private JdbcAuthorRepository jdbcRepository;
+
+    private CachingAuthorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingAuthorRepository(jdbcRepository, CACHE_MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("должен отдавать автора из кэша при повторном запросе")
+    void shouldReturnCachedAuthorById() {
+        var first = repository.findById(1L);
+        var second = repository.findById(1L);
+
+        assertThat(second).isPresent().get().isSameAs(first.orElseThrow());
+        assertThat(repository.getStatistics())
+                .matches(s -> s.hits() == 1 && s.misses() == 1 && s.size() == 1);
+    }
+
+    @Test
+    @DisplayName("должен догружать из базы только отсутствующих в кэше авторов")
+    void shouldLoadOnlyMissingAuthorsByIds() {
+        repository.findById(1L);
+
+        var authors = repository.findAllByIds(Set.of(1L, 2L));
+
+        assertThat(authors).extracting(Author::getFullName).containsExactlyInAnyOrder("Author_1", "Author_2");
+        assertThat(repository.getStatistics())
+                .matches(s -> s.hits() == 1 && s.misses() == 2 && s.size() == 2);
+    }
+
+    @Test
+    @DisplayName("должен ограничивать размер кэша и сбрасывать его по запросу")
+    void shouldBoundSizeAndInvalidate() {
+        repository.findAll();
+        assertThat(repository.getStatistics()).matches(s -> s.size() == 2 && s.evictions() == 1);
+
+        repository.invalidateAll();
+        assertThat(repository.getStatistics().size()).isZero();
+        assertThat(repository.findById(99L)).isEmpty();
+        assertThat(repository.getStatistics().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("должен сбрасывать из кэша только указанного автора")
+    void shouldInvalidateSingleAuthor() {
+        repository.findAllByIds(Set.of(1L, 2L));
+
+        repository.invalidate(1L);
+
+        assertThat(repository.getStatistics().size()).isEqualTo(1);
+        repository.findAllByIds(Set.of(1L, 2L));
+        assertThat(repository.getStatistics())
+                .matches(s -> s.hits() == 1 && s.misses() == 3 && s.size() == 2);
+    }
+}
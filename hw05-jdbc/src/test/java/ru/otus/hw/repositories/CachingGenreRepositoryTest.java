@@ -0,0 +1,86 @@
+package ru.otus.hw.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.models.Genre;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кэширующий репозиторий жанров")
+@JdbcTest
+@Import({JdbcGenreRepository.class, JdbcStatementMetrics.class})
+class CachingGenreRepositoryTest {
+
+    private static final int CACHE_MAX_SIZE = 2;
+
+    @Autowired
+    private JdbcGenreRepository jdbcRepository;
+
+    private CachingGenreRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingGenreRepository(jdbcRepository, CACHE_MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("должен отдавать жанр из кэша при повторном запросе")
+    void shouldReturnCachedGenreById() {
+        var first = repository.findById(1L);
+        var second = repository.findById(1L);
+
+        assertThat(second).isPresent().get().isSameAs(first.orElseThrow());
+        assertThat(repository.getStatistics())
+                .matches(s -> s.hits() == 1 && s.misses() == 1 && s.size() == 1);
+    }
+
+    @Test
+    @DisplayName("должен догружать из базы только отсутствующие в кэше жанры")
+    void shouldLoadOnlyMissingGenresByIds() {
+        repository.findById(1L);
+
+        var genres = repository.findAllByIds(Set.of(1L, 2L));
+
+        assertThat(genres).extracting(Genre::getName).containsExactlyInAnyOrder("Genre_1", "Genre_2");
+        assertThat(repository.getStatistics())
+                .matches(s -> s.hits() == 1 && s.misses() == 2 && s.size() == 2);
+    }
+
+    @Test
+    @DisplayName("должен ограничивать размер кэша и сбрасывать его по запросу")
+    void shouldBoundSizeAndInvalidate() {
+        repository.findAll();
+        assertThat(repository.getStatistics()).matches(s -> s.size() == 2 && s.evictions() == 1);
+
+        repository.invalidateAll();
+        assertThat(repository.getStatistics().size()).isZero();
+        assertThat(repository.findById(99L)).isEmpty();
+        assertThat(repository.getStatistics().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("должен вытеснять давно не использованный жанр и сбрасывать один жанр по id")
+    void shouldEvictLeastRecentlyUsedAndInvalidateById() {
+        repository.findById(1L);
+        repository.findById(2L);
+        repository.findById(1L);
+
+        repository.findById(3L);
+        var misses = repository.getStatistics().misses();
+        repository.findById(1L);
+        assertThat(repository.getStatistics().misses()).isEqualTo(misses);
+        repository.findById(2L);
+        assertThat(repository.getStatistics().misses()).isEqualTo(misses + 1);
+
+        repository.invalidate(2L);
+        repository.findById(2L);
+        assertThat(repository.getStatistics().misses()).isEqualTo(misses + 2);
+    }
+}
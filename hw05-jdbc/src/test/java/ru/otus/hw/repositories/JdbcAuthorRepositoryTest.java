@@ -5,16 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Author;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с авторами")
 @JdbcTest
-@Import(JdbcAuthorRepository.class)
+@Import({JdbcAuthorRepository.class, JdbcStatementMetrics.class})
 class JdbcAuthorRepositoryTest {
 
     @Autowired
@@ -29,6 +31,16 @@ class JdbcAuthorRepositoryTest {
                 .containsExactlyInAnyOrder("Author_1", "Author_2", "Author_3");
     }
 
+    @Test
+    @DisplayName("должен загружать авторов страницами и потоком")
+    void shouldFindAuthorsPageAndStream() {
+        assertThat(repository.findPage(1L, 5).stream().map(Author::getFullName))
+                .containsExactly("Author_2", "Author_3");
+        try (var authors = repository.streamAll()) {
+            assertThat(authors.map(Author::getFullName)).containsExactly("Author_1", "Author_2", "Author_3");
+        }
+    }
+
     @Test
     @DisplayName("должен загружать автора по id")
     void shouldFindAuthorById() {
@@ -37,6 +49,15 @@ class JdbcAuthorRepositoryTest {
         assertThat(author.get().getFullName()).isEqualTo("Author_1");
     }
 
+    @Test
+    @DisplayName("должен загружать авторов по набору id")
+    void shouldFindAuthorsByIds() {
+        List<Author> authors = repository.findAllByIds(Set.of(1L, 3L, 99L));
+        assertThat(authors.stream().map(Author::getFullName))
+                .containsExactlyInAnyOrder("Author_1", "Author_3");
+        assertThat(repository.findAllByIds(Set.of())).isEmpty();
+    }
+
     @Test
     @DisplayName("должен возвращать пустой Optional для несуществующего автора")
     void shouldReturnEmptyOptionalForNonExistingAuthor() {
@@ -8,18 +8,23 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с книгами ")
-@JdbcTest
-@Import({JdbcBookRepository.class})
+@JdbcTest(properties = "library.jdbc.batch-size=2")
+@Import({JdbcBookRepository.class, JdbcStatementMetrics.class})
 class JdbcBookRepositoryTest {
 
     @Autowired
@@ -58,6 +63,60 @@ class JdbcBookRepositoryTest {
         actualBooks.forEach(System.out::println);
     }
 
+    @DisplayName("должен загружать страницы книг по последнему id")
+    @Test
+    void shouldReturnBooksPageAfterLastId() {
+        assertThat(repositoryJdbc.findPage(0, 2)).containsExactlyElementsOf(dbBooks.subList(0, 2));
+        assertThat(repositoryJdbc.findPage(2, 2)).containsExactly(dbBooks.get(2));
+        assertThat(repositoryJdbc.findPage(3, 2)).isEmpty();
+    }
+
+    @DisplayName("должен отдавать все книги потоком")
+    @Test
+    void shouldStreamAllBooks() {
+        try (var books = repositoryJdbc.streamAll()) {
+            assertThat(books).containsExactlyElementsOf(dbBooks);
+        }
+    }
+
+    @DisplayName("должен переиспользовать экземпляры автора и жанра в пределах одного запроса")
+    @Test
+    void shouldShareAuthorAndGenreInstancesWithinResultSet() {
+        repositoryJdbc.saveAll(List.of(
+                new Book(0, "BookTitle_4", dbAuthors.get(0), dbGenres.get(1)),
+                new Book(0, "BookTitle_5", dbAuthors.get(0), dbGenres.get(1))));
+
+        var books = repositoryJdbc.findAll().stream()
+                .sorted(Comparator.comparingLong(Book::getId))
+                .toList();
+
+        assertThat(books).hasSize(5);
+        assertThat(books.get(3).getAuthor()).isSameAs(books.get(0).getAuthor()).isSameAs(books.get(4).getAuthor());
+        assertThat(books.get(3).getGenre()).isSameAs(books.get(1).getGenre()).isSameAs(books.get(4).getGenre());
+    }
+
+    @DisplayName("должен искать книги по автору, жанру и префиксу названия")
+    @Test
+    void shouldSearchBooksByCriteria() {
+        repositoryJdbc.saveAll(List.of(
+                new Book(0, "Another_%_Title", dbAuthors.get(0), dbGenres.get(1)),
+                new Book(0, "AnotherTitle", dbAuthors.get(0), dbGenres.get(0))));
+
+        assertThat(repositoryJdbc.search(BookSearchCriteria.builder().authorId(1L).build()))
+                .extracting(Book::getTitle)
+                .containsExactly("BookTitle_1", "Another_%_Title", "AnotherTitle");
+        assertThat(repositoryJdbc.search(BookSearchCriteria.builder().authorId(1L).genreId(1L).build()))
+                .extracting(Book::getTitle)
+                .containsExactly("BookTitle_1", "AnotherTitle");
+        assertThat(repositoryJdbc.search(BookSearchCriteria.builder().titlePrefix("Another_%").build()))
+                .extracting(Book::getTitle)
+                .containsExactly("Another_%_Title");
+        assertThat(repositoryJdbc.search(BookSearchCriteria.builder()
+                .sortBy(BookSortField.TITLE).descending(true).limit(2).build()))
+                .extracting(Book::getTitle)
+                .containsExactly("BookTitle_3", "BookTitle_2");
+    }
+
     @DisplayName("должен сохранять новую книгу")
     @Test
     void shouldSaveNewBook() {
@@ -94,6 +153,35 @@ class JdbcBookRepositoryTest {
                 .isEqualTo(returnedBook);
     }
 
+    @DisplayName("должен сохранять пачку новых и измененных книг батчами")
+    @Test
+    void shouldSaveAllBooksInBatches() {
+        var newBooks = IntStream.range(0, 5)
+                .mapToObj(i -> new Book(0, "BatchTitle_" + i, dbAuthors.get(i % 3), dbGenres.get(i % 3)))
+                .toList();
+        var updatedBook = new Book(2L, "BookTitle_10500", dbAuthors.get(0), dbGenres.get(0));
+        var books = new ArrayList<>(newBooks);
+        books.add(1, updatedBook);
+
+        var savedBooks = repositoryJdbc.saveAll(books);
+
+        assertThat(savedBooks).containsExactlyElementsOf(books);
+        assertThat(newBooks).extracting(Book::getId).doesNotContain(0L).isSorted().doesNotHaveDuplicates();
+        savedBooks.forEach(book -> assertThat(repositoryJdbc.findById(book.getId()))
+                .isPresent()
+                .get()
+                .isEqualTo(book));
+    }
+
+    @DisplayName("должен бросать исключение при батч-обновлении несуществующей книги")
+    @Test
+    void shouldThrowWhenSavingAllWithMissingBook() {
+        var missingBook = new Book(100L, "BookTitle_100", dbAuthors.get(0), dbGenres.get(0));
+
+        assertThatThrownBy(() -> repositoryJdbc.saveAll(List.of(dbBooks.get(0), missingBook)))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @DisplayName("должен удалять книгу по id")
     @Test
     void shouldDeleteBook() {
@@ -102,6 +190,28 @@ class JdbcBookRepositoryTest {
         assertThat(repositoryJdbc.findById(1L)).isEmpty();
     }
 
+    @DisplayName("должен удалять книги пачкой по списку id")
+    @Test
+    void shouldDeleteBooksByIdsInChunks() {
+        int deleted = repositoryJdbc.deleteByIds(List.of(1L, 2L, 3L, 3L, 99L));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(repositoryJdbc.findAll()).isEmpty();
+        assertThat(repositoryJdbc.deleteByIds(List.of())).isZero();
+    }
+
+    @DisplayName("должен удалять все книги автора и жанра одним запросом")
+    @Test
+    void shouldDeleteBooksByAuthorAndGenre() {
+        repositoryJdbc.saveAll(List.of(
+                new Book(0, "BookTitle_4", dbAuthors.get(0), dbGenres.get(1)),
+                new Book(0, "BookTitle_5", dbAuthors.get(0), dbGenres.get(1))));
+
+        assertThat(repositoryJdbc.deleteByAuthorId(1L)).isEqualTo(3);
+        assertThat(repositoryJdbc.deleteByGenreId(2L)).isEqualTo(1);
+        assertThat(repositoryJdbc.findAll()).extracting(Book::getId).containsExactly(3L);
+    }
+
     private static List<Author> getDbAuthors() {
         return IntStream.range(1, 4).boxed()
                 .map(id -> new Author(id, "Author_" + id))
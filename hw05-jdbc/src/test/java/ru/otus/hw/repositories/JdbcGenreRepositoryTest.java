@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
 import ru.otus.hw.models.Genre;
 
 import javax.sql.DataSource;
@@ -14,7 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с жанрами")
 @JdbcTest
-@Import(JdbcGenreRepository.class)
+@Import({JdbcGenreRepository.class, JdbcStatementMetrics.class})
 class JdbcGenreRepositoryTest {
 
     @Autowired
@@ -41,6 +42,14 @@ class JdbcGenreRepositoryTest {
                 .matches(genre -> genre.getName().equals("Genre_1"));
     }
 
+    @Test
+    @DisplayName("должен загружать жанры по набору id")
+    void shouldReturnCorrectGenresByIds() {
+        var actualGenres = repositoryJdbc.findAllByIds(Set.of(2L, 3L));
+        assertThat(actualGenres.stream().map(Genre::getName).toList())
+                .containsExactlyInAnyOrder("Genre_2", "Genre_3");
+    }
+
     @Test
     @DisplayName("должен возвращать пустой Optional для несуществующего жанра")
     void shouldReturnEmptyOptionalForNonExistingGenre() {
@@ -0,0 +1,254 @@
+package ru.otus.hw.repositories;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Запросы репозиториев на большом наборе данных")
+class RepositoryQueryPlanTest {
+
+    private static final int AUTHORS_COUNT = 5_000;
+
+    private static final int GENRES_COUNT = 100;
+
+    private static final int BOOKS_COUNT = 100_000;
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final int FETCH_SIZE = 100;
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* [\\w.]+\\.tableScan \\*/");
+
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+
+    private static EmbeddedDatabase database;
+
+    private static JdbcTemplate explainJdbcTemplate;
+
+    private static JdbcBookRepository bookRepository;
+
+    private static JdbcAuthorRepository authorRepository;
+
+    private static JdbcGenreRepository genreRepository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        explainJdbcTemplate = new JdbcTemplate(database);
+        explainJdbcTemplate.update("INSERT INTO authors(full_name) SELECT 'Author_' || x FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT);
+        explainJdbcTemplate.update("INSERT INTO genres(name) SELECT 'Genre_' || x FROM SYSTEM_RANGE(1, ?)",
+                GENRES_COUNT);
+        explainJdbcTemplate.update("INSERT INTO books(title, author_id, genre_id) " +
+                        "SELECT 'BookTitle_' || x, MOD(x, ?) + 1, MOD(x, ?) + 1 FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT, GENRES_COUNT, BOOKS_COUNT);
+        explainJdbcTemplate.execute("ANALYZE");
+
+        var jdbcTemplate = new NamedParameterJdbcTemplate(RECORDER.wrap(database));
+        var metrics = new JdbcStatementMetrics();
+        bookRepository = new JdbcBookRepository(jdbcTemplate, metrics, BATCH_SIZE, FETCH_SIZE);
+        authorRepository = new JdbcAuthorRepository(jdbcTemplate, metrics, FETCH_SIZE);
+        genreRepository = new JdbcGenreRepository(jdbcTemplate, metrics);
+    }
+
+    @AfterAll
+    static void shutDownDatabase() {
+        database.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        RECORDER.clear();
+    }
+
+    @Test
+    @DisplayName("книги: выборки по id и страницами используют индексы")
+    void bookLookupsShouldUseIndexes() {
+        bookRepository.findById(BOOKS_COUNT / 2);
+        bookRepository.findPage(BOOKS_COUNT / 2, 20);
+
+        assertTableScansAtMost(0);
+    }
+
+    @Test
+    @DisplayName("книги: поиск с фильтрами использует индексы")
+    void bookSearchShouldUseIndexes() {
+        bookRepository.search(BookSearchCriteria.builder().authorId(1L).build());
+        bookRepository.search(BookSearchCriteria.builder().genreId(1L).sortBy(BookSortField.TITLE).build());
+        bookRepository.search(BookSearchCriteria.builder().titlePrefix("BookTitle_99").build());
+        bookRepository.search(BookSearchCriteria.builder().authorId(1L).genreId(1L).titlePrefix("BookTitle_1")
+                .sortBy(BookSortField.AUTHOR).descending(true).build());
+
+        assertTableScansAtMost(0);
+    }
+
+    @Test
+    @DisplayName("книги: полная выборка сканирует не более одной таблицы")
+    void bookListingsShouldScanOnlyDrivingTable() {
+        bookRepository.findAll();
+        try (var books = bookRepository.streamAll()) {
+            assertThat(books.findFirst()).isPresent();
+        }
+
+        assertTableScansAtMost(1);
+    }
+
+    @Test
+    @DisplayName("книги: изменение и удаление используют индексы")
+    void bookWritesShouldUseIndexes() {
+        var author = new Author(1, "Author_1");
+        var genre = new Genre(1, "Genre_1");
+        bookRepository.save(new Book(1, "BookTitle_1", author, genre));
+        bookRepository.saveAll(List.of(new Book(2, "BookTitle_2", author, genre)));
+        bookRepository.deleteById(BOOKS_COUNT);
+        bookRepository.deleteByIds(List.of(BOOKS_COUNT - 1L, BOOKS_COUNT - 2L));
+        bookRepository.deleteByAuthorId(AUTHORS_COUNT);
+        bookRepository.deleteByGenreId(GENRES_COUNT);
+
+        assertTableScansAtMost(0);
+    }
+
+    @Test
+    @DisplayName("авторы: выборки по id и страницами используют индексы")
+    void authorLookupsShouldUseIndexes() {
+        authorRepository.findById(AUTHORS_COUNT / 2);
+        authorRepository.findAllByIds(Set.of(1L, 2L, 3L));
+        authorRepository.findPage(AUTHORS_COUNT / 2, 20);
+
+        assertTableScansAtMost(0);
+    }
+
+    @Test
+    @DisplayName("авторы: полная выборка сканирует не более одной таблицы")
+    void authorListingsShouldScanOnlyOneTable() {
+        authorRepository.findAll();
+        try (var authors = authorRepository.streamAll()) {
+            assertThat(authors.findFirst()).isPresent();
+        }
+
+        assertTableScansAtMost(1);
+    }
+
+    @Test
+    @DisplayName("жанры: выборки по id используют индексы")
+    void genreLookupsShouldUseIndexes() {
+        genreRepository.findById(GENRES_COUNT / 2);
+        genreRepository.findAllByIds(Set.of(1L, 2L, 3L));
+
+        assertTableScansAtMost(0);
+    }
+
+    @Test
+    @DisplayName("жанры: полная выборка сканирует не более одной таблицы")
+    void genreListingsShouldScanOnlyOneTable() {
+        genreRepository.findAll();
+
+        assertTableScansAtMost(1);
+    }
+
+    private static void assertTableScansAtMost(int maxTableScans) {
+        var statements = RECORDER.getStatements();
+        assertThat(statements).isNotEmpty();
+        for (var statement : statements) {
+            var plan = explainJdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class,
+                    statement.params().values().toArray());
+            assertThat(TABLE_SCAN.matcher(plan).results().count())
+                    .as("Table scans in plan%n%s", plan)
+                    .isLessThanOrEqualTo(maxTableScans);
+        }
+    }
+
+    private record RecordedStatement(String sql, Map<Integer, Object> params) {
+    }
+
+    private static final class StatementRecorder {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+                var result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        List<RecordedStatement> getStatements() {
+            return List.copyOf(statements);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (proxy, method, args) -> {
+                var result = invoke(connection, method, args);
+                if (result instanceof PreparedStatement preparedStatement && !isInsert((String) args[0])) {
+                    var statement = new RecordedStatement((String) args[0], new TreeMap<>());
+                    statements.add(statement);
+                    return wrap(preparedStatement, statement.params());
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement preparedStatement, Map<Integer, Object> params) {
+            return proxy(PreparedStatement.class, preparedStatement, (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer index) {
+                    params.put(index, method.getName().equals("setNull") ? null : args[1]);
+                }
+                return invoke(preparedStatement, method, args);
+            });
+        }
+
+        private static boolean isInsert(String sql) {
+            return sql.stripLeading().regionMatches(true, 0, "INSERT", 0, "INSERT".length());
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args)
+                throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Сервис импорта книг из файла")
+@JdbcTest
+@Import({BookImportServiceImpl.class, JdbcAuthorRepository.class, JdbcGenreRepository.class,
+        JdbcBookRepository.class, JdbcStatementMetrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookImportServiceImplTest {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void deleteImportedBooks() {
+        jdbcTemplate.update("delete from books where title like 'Imported_%'");
+    }
+
+    @Test
+    @DisplayName("должен сохранять каждую порцию в своей транзакции и оставлять сохранёнными порции до ошибки")
+    void shouldCommitChunksBeforeBrokenLine() throws IOException {
+        Path file = tempDir.resolve("books.txt");
+        Files.writeString(file, IntStream.range(0, CHUNK_SIZE)
+                .mapToObj(i -> "Imported_%d;1;2".formatted(i))
+                .collect(Collectors.joining("\n", "", "\nImported_broken;99;1\n")), StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> bookImportService.importBooks(file))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Author with id 99 not found (line %d)".formatted(CHUNK_SIZE + 1));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from books where title like 'Imported_%'",
+                Long.class)).isEqualTo(CHUNK_SIZE);
+    }
+}
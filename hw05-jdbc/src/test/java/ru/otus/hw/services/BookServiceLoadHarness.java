@@ -0,0 +1,241 @@
+package ru.otus.hw.services;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import ru.otus.hw.config.DataSourceConfiguration;
+import ru.otus.hw.config.PoolProperties;
+import ru.otus.hw.metrics.JdbcStatementMetrics;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drives {@link BookServiceImpl} from many threads against pools of different sizes and prints throughput
+ * and latency percentiles for each size. Latencies go to per-thread bucketed histograms, so memory does not
+ * depend on the number of operations. Run with {@link #main(String[])}:
+ * {@code [threads] [seconds per pool size] [write percent] [pool sizes...]}.
+ */
+public class BookServiceLoadHarness {
+
+    private static final int AUTHORS_COUNT = 1_000;
+
+    private static final int GENRES_COUNT = 50;
+
+    private static final int BOOKS_COUNT = 100_000;
+
+    private static final int DEFAULT_SECONDS = 10;
+
+    private static final int DEFAULT_WRITE_PERCENT = 20;
+
+    private static final int PERCENT = 100;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int WARMUP_SECONDS = 2;
+
+    public static void main(String[] args) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : cores * 4;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        int writePercent = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WRITE_PERCENT;
+        int[] poolSizes = args.length > 3
+                ? Arrays.stream(args, 3, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 2, cores, PoolProperties.defaultPoolSize(cores), cores * 4};
+
+        System.out.printf("cores=%d threads=%d seconds=%d writes=%d%%%n", cores, threads, seconds, writePercent);
+        System.out.printf("%8s %12s %10s %10s %10s %10s%n", "pool", "ops/s", "p50 us", "p90 us", "p99 us", "max us");
+        for (int poolSize : poolSizes) {
+            var result = run(poolSize, threads, seconds, writePercent);
+            System.out.printf("%8d %12.0f %10d %10d %10d %10d%n", poolSize, result.throughput(),
+                    result.percentile(0.5), result.percentile(0.9), result.percentile(0.99), result.max());
+        }
+    }
+
+    private static LoadResult run(int poolSize, int threads, int seconds, int writePercent)
+            throws InterruptedException {
+        try (var dataSource = createDataSource(poolSize)) {
+            var bookService = createBookService(dataSource);
+            drive(bookService, threads, WARMUP_SECONDS, writePercent);
+            return drive(bookService, threads, seconds, writePercent);
+        }
+    }
+
+    private static LoadResult drive(BookService bookService, int threads, int seconds, int writePercent)
+            throws InterruptedException {
+        var running = new AtomicBoolean(true);
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        var histograms = new ArrayList<LatencyHistogram>();
+        for (int t = 0; t < threads; t++) {
+            var histogram = new LatencyHistogram();
+            histograms.add(histogram);
+            var worker = new Thread(() -> {
+                awaitQuietly(start);
+                var random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    long opStart = System.nanoTime();
+                    execute(bookService, random, writePercent);
+                    histogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - opStart));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        TimeUnit.SECONDS.sleep(seconds);
+        running.set(false);
+        for (var worker : workers) {
+            worker.join();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        var total = new LatencyHistogram();
+        histograms.forEach(total::add);
+        return new LoadResult(total, total.count() / (elapsedNanos / 1e9));
+    }
+
+    private static void execute(BookService bookService, ThreadLocalRandom random, int writePercent) {
+        long bookId = random.nextLong(1, BOOKS_COUNT + 1);
+        if (random.nextInt(PERCENT) < writePercent) {
+            bookService.update(bookId, "Updated_" + bookId,
+                    random.nextLong(1, AUTHORS_COUNT + 1), random.nextLong(1, GENRES_COUNT + 1));
+        } else if (random.nextBoolean()) {
+            bookService.findById(bookId);
+        } else {
+            bookService.findPage(bookId, PAGE_SIZE);
+        }
+    }
+
+    private static HikariDataSource createDataSource(int poolSize) {
+        var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:load_%d_%d;DB_CLOSE_DELAY=-1".formatted(poolSize, System.nanoTime()));
+        var poolProperties = new PoolProperties();
+        poolProperties.setPoolName("load-pool-" + poolSize);
+        poolProperties.setMaximumPoolSize(poolSize);
+        DataSourceConfiguration.configure(dataSource, poolProperties);
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO authors(full_name) SELECT 'Author_' || x FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT);
+        jdbcTemplate.update("INSERT INTO genres(name) SELECT 'Genre_' || x FROM SYSTEM_RANGE(1, ?)", GENRES_COUNT);
+        jdbcTemplate.update("INSERT INTO books(title, author_id, genre_id) " +
+                        "SELECT 'BookTitle_' || x, MOD(x, ?) + 1, MOD(x, ?) + 1 FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS_COUNT, GENRES_COUNT, BOOKS_COUNT);
+        return dataSource;
+    }
+
+    private static BookService createBookService(HikariDataSource dataSource) {
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        var metrics = new JdbcStatementMetrics();
+        return new BookServiceImpl(
+                new JdbcAuthorRepository(jdbcTemplate, metrics, FETCH_SIZE),
+                new JdbcGenreRepository(jdbcTemplate, metrics),
+                new JdbcBookRepository(jdbcTemplate, metrics, BATCH_SIZE, FETCH_SIZE));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record LoadResult(LatencyHistogram latencies, double throughput) {
+
+        long percentile(double quantile) {
+            return latencies.percentile(quantile);
+        }
+
+        long max() {
+            return latencies.max();
+        }
+    }
+
+    /**
+     * Single-writer latency histogram in microseconds. Every power of two is split into eight buckets, so a
+     * reported percentile is the upper bound of its bucket, at most 12.5% above the recorded value.
+     */
+    private static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 3;
+
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final long[] buckets = new long[(Long.SIZE + 1) * SUB_BUCKETS];
+
+        private long count;
+
+        private long max;
+
+        void record(long micros) {
+            buckets[index(micros)]++;
+            count++;
+            max = Math.max(max, micros);
+        }
+
+        void add(LatencyHistogram other) {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += other.buckets[i];
+            }
+            count += other.count;
+            max = Math.max(max, other.max);
+        }
+
+        long count() {
+            return count;
+        }
+
+        long max() {
+            return max;
+        }
+
+        long percentile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i];
+                if (cumulative >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        private static int index(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) Math.max(micros, 0);
+            }
+            int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+            int subBucket = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long width = 1L << (magnitude - SUB_BUCKET_BITS);
+            return (1L << magnitude) + (index % SUB_BUCKETS) * width + width - 1;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.services.CacheStatisticsService;
+
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class CacheCommands {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @ShellMethod(value = "Show second-level and query cache statistics", key = "cstat")
+    public String showCacheStatistics() {
+        if (!cacheStatisticsService.isStatisticsEnabled()) {
+            return "Hibernate statistics are disabled";
+        }
+        return cacheStatisticsService.getStatistics().stream()
+                .map(s -> "%s: hits %d, misses %d, puts %d".formatted(s.region(), s.hits(), s.misses(), s.puts()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Evict second-level and query caches", key = "cclr")
+    public String clearCache() {
+        cacheStatisticsService.evictAll();
+        return "Second-level and query caches cleared";
+    }
+}
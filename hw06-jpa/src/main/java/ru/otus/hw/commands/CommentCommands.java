@@ -6,6 +6,12 @@ import org.springframework.shell.standard.ShellMethod;
 import ru.otus.hw.converters.CommentConverter;
 import ru.otus.hw.services.CommentService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -36,6 +42,18 @@ public class CommentCommands {
         return commentConverter.commentToString(savedComment);
     }
 
+    // cimp 1 comments.txt
+    @ShellMethod(value = "Import comments of book from file, one comment per line", key = "cimp")
+    public String importComments(long bookId, String file) {
+        List<String> texts;
+        try (var lines = Files.lines(Path.of(file), StandardCharsets.UTF_8)) {
+            texts = lines.filter(line -> !line.isBlank()).toList();
+        } catch (IOException | UncheckedIOException e) {
+            return "Unable to read comments from %s".formatted(file);
+        }
+        return "Imported %d comments to book %d".formatted(commentService.createAll(bookId, texts), bookId);
+    }
+
     @ShellMethod(value = "Update comment", key = "cupd")
     public String updateComment(long id, String text) {
         var savedComment = commentService.update(id, text);
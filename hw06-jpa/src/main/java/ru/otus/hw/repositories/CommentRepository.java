@@ -12,5 +12,7 @@ public interface CommentRepository {
 
     Comment save(Comment comment);
 
+    void saveAllInBatches(Iterable<Comment> comments);
+
     void deleteById(long id);
 }
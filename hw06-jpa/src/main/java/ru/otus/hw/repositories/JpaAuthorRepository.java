@@ -3,6 +3,7 @@ package ru.otus.hw.repositories;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Author;
 
@@ -19,6 +20,7 @@ public class JpaAuthorRepository implements AuthorRepository {
         TypedQuery<Author> query = em.createQuery(
                 "SELECT a FROM Author a",
                 Author.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         return query.getResultList();
     }
 
@@ -2,10 +2,11 @@ package ru.otus.hw.repositories;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Comment;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,10 +14,17 @@ import java.util.Optional;
 import static org.springframework.data.jpa.repository.EntityGraph.EntityGraphType.FETCH;
 
 @Repository
-@RequiredArgsConstructor
 public class JpaCommentRepository implements CommentRepository {
     private final EntityManager em;
 
+    private final int batchSize;
+
+    public JpaCommentRepository(EntityManager em,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.em = em;
+        this.batchSize = batchSize;
+    }
+
     @Override
     public Optional<Comment> findById(long id) {
         return Optional.ofNullable(
@@ -45,6 +53,30 @@ public class JpaCommentRepository implements CommentRepository {
         return em.merge(comment);
     }
 
+    /**
+     * Persists comments flushing after every JDBC batch and detaching the comments of that batch, so the inserts
+     * go out as batches and the context does not grow with the number of comments. Other entities managed by
+     * the caller's transaction stay attached.
+     */
+    @Override
+    public void saveAllInBatches(Iterable<Comment> comments) {
+        List<Comment> batch = new ArrayList<>(batchSize);
+        for (Comment comment : comments) {
+            em.persist(comment);
+            batch.add(comment);
+            if (batch.size() == batchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+    }
+
+    private void flushAndDetach(List<Comment> batch) {
+        em.flush();
+        batch.forEach(em::detach);
+        batch.clear();
+    }
+
     @Override
     public void deleteById(long id) {
         Comment comment = em.find(Comment.class, id);
@@ -3,6 +3,7 @@ package ru.otus.hw.repositories;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Genre;
 
@@ -20,6 +21,7 @@ public class JpaGenreRepository implements GenreRepository {
         TypedQuery<Genre> query = em.createQuery(
                 "SELECT g FROM Genre g",
                 Genre.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         return query.getResultList();
     }
 
@@ -0,0 +1,4 @@
+package ru.otus.hw.services;
+
+public record CacheStatistics(String region, long hits, long misses, long puts) {
+}
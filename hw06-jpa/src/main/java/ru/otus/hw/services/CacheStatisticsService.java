@@ -0,0 +1,11 @@
+package ru.otus.hw.services;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+    boolean isStatisticsEnabled();
+
+    List<CacheStatistics> getStatistics();
+
+    void evictAll();
+}
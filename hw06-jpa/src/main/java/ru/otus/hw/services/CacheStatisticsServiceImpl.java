@@ -0,0 +1,47 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return sessionFactory().getStatistics().isStatisticsEnabled();
+    }
+
+    @Override
+    public List<CacheStatistics> getStatistics() {
+        var statistics = sessionFactory().getStatistics();
+        var result = new ArrayList<CacheStatistics>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+            var regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                result.add(new CacheStatistics(region, regionStatistics.getHitCount(),
+                        regionStatistics.getMissCount(), regionStatistics.getPutCount()));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void evictAll() {
+        var cache = sessionFactory().getCache();
+        cache.evictAllRegions();
+        cache.evictQueryRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -2,6 +2,7 @@ package ru.otus.hw.services;
 
 import ru.otus.hw.models.Comment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ public interface CommentService {
 
     Comment create(String text, long bookId);
 
+    int createAll(long bookId, Collection<String> texts);
+
     Comment update(long id, String text);
 
     void deleteById(long id);
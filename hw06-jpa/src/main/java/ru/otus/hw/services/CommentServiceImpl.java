@@ -9,6 +9,7 @@ import ru.otus.hw.models.Comment;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +42,17 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.save(comment);
     }
 
+    @Transactional
+    @Override
+    public int createAll(long bookId, Collection<String> texts) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new EntityNotFoundException("Book with id %d not found".formatted(bookId)));
+        commentRepository.saveAllInBatches(() -> texts.stream()
+                .map(text -> new Comment(0, text, book))
+                .iterator());
+        return texts.size();
+    }
+
     @Transactional
     @Override
     public Comment update(long id, String text) {
@@ -0,0 +1,278 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.Genre;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exports and imports the whole library as a line-delimited file through a Hibernate {@link StatelessSession},
+ * so neither side keeps entities in a persistence context. Every line is a record type followed by
+ * tab-separated fields, string fields go last and escape backslash, tab and line breaks, {@code \N} stands for
+ * null:
+ * <pre>
+ * A  id  fullName
+ * G  id  name
+ * B  id  authorId  genreId  title
+ * C  id  bookId  text
+ * </pre>
+ * Ids in the file are only references between its lines, imported rows get new ids from the sequences.
+ * Stateless inserts bypass the second-level cache, so a successful import evicts the cached authors, genres
+ * and query results.
+ */
+@Service
+public class LibraryTransferServiceImpl implements LibraryTransferService {
+    private static final int FETCH_SIZE = 1000;
+
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private static final String NULL = "\\N";
+
+    private static final char AUTHOR = 'A';
+
+    private static final char GENRE = 'G';
+
+    private static final char BOOK = 'B';
+
+    private static final char COMMENT = 'C';
+
+    private final SessionFactory sessionFactory;
+
+    private final int batchSize;
+
+    public LibraryTransferServiceImpl(EntityManagerFactory entityManagerFactory,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public TransferStatistics exportLibrary(Path file) {
+        long startNanos = System.nanoTime();
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             var session = sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            try {
+                long authors = exportRows(session, writer, AUTHOR,
+                        "select a.id, a.fullName from Author a order by a.id");
+                long genres = exportRows(session, writer, GENRE,
+                        "select g.id, g.name from Genre g order by g.id");
+                long books = exportRows(session, writer, BOOK,
+                        "select b.id, b.author.id, b.genre.id, b.title from Book b order by b.id");
+                long comments = exportRows(session, writer, COMMENT,
+                        "select c.id, c.book.id, c.text from Comment c order by c.id");
+                transaction.commit();
+                return new TransferStatistics(authors, genres, books, comments, System.nanoTime() - startNanos);
+            } catch (IOException | RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write library to " + file, e);
+        }
+    }
+
+    @Override
+    public TransferStatistics importLibrary(Path file) {
+        long startNanos = System.nanoTime();
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             var session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            var transaction = session.beginTransaction();
+            try {
+                var importer = new Importer(session);
+                importer.importLines(reader);
+                transaction.commit();
+                evictLibraryCaches();
+                return importer.statistics(System.nanoTime() - startNanos);
+            } catch (IOException | RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read library from " + file, e);
+        }
+    }
+
+    private void evictLibraryCaches() {
+        var cache = sessionFactory.getCache();
+        cache.evictEntityData(Author.class);
+        cache.evictEntityData(Genre.class);
+        cache.evictQueryRegions();
+    }
+
+    private static long exportRows(StatelessSession session, Writer writer, char type, String query)
+            throws IOException {
+        long count = 0;
+        try (var rows = session.createSelectionQuery(query, Object[].class)
+                .setFetchSize(FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                writeLine(writer, type, rows.get());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeLine(Writer writer, char type, Object[] fields) throws IOException {
+        writer.write(type);
+        for (Object field : fields) {
+            writer.write(FIELD_SEPARATOR);
+            if (field == null) {
+                writer.write(NULL);
+            } else if (field instanceof String text) {
+                writeEscaped(writer, text);
+            } else {
+                writer.write(field.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeEscaped(Writer writer, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                default -> writer.write(c);
+            }
+        }
+    }
+
+    private static String unescape(String text) {
+        if (NULL.equals(text)) {
+            return null;
+        }
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        var result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                result.append(switch (escaped) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> escaped;
+                });
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static final class Importer {
+        private final StatelessSession session;
+
+        private final LongLongMap authorIds = new LongLongMap();
+
+        private final LongLongMap genreIds = new LongLongMap();
+
+        private final LongLongMap bookIds = new LongLongMap();
+
+        private long comments;
+
+        private int lineNumber;
+
+        private Importer(StatelessSession session) {
+            this.session = session;
+        }
+
+        void importLines(BufferedReader reader) throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    importLine(line);
+                }
+            }
+        }
+
+        TransferStatistics statistics(long elapsedNanos) {
+            return new TransferStatistics(authorIds.size(), genreIds.size(), bookIds.size(), comments,
+                    elapsedNanos);
+        }
+
+        private void importLine(String line) {
+            switch (line.charAt(0)) {
+                case AUTHOR -> {
+                    var fields = fields(line, 3);
+                    var author = new Author(0, unescape(fields[2]));
+                    session.insert(author);
+                    authorIds.put(parseId(fields[1]), author.getId());
+                }
+                case GENRE -> {
+                    var fields = fields(line, 3);
+                    var genre = new Genre(0, unescape(fields[2]));
+                    session.insert(genre);
+                    genreIds.put(parseId(fields[1]), genre.getId());
+                }
+                case BOOK -> {
+                    var fields = fields(line, 5);
+                    var book = new Book(0, unescape(fields[4]),
+                            NULL.equals(fields[2]) ? null : new Author(resolve(authorIds, "Author", fields[2]), null),
+                            NULL.equals(fields[3]) ? null : new Genre(resolve(genreIds, "Genre", fields[3]), null));
+                    session.insert(book);
+                    bookIds.put(parseId(fields[1]), book.getId());
+                }
+                case COMMENT -> {
+                    var fields = fields(line, 4);
+                    var book = NULL.equals(fields[2]) ? null
+                            : new Book(resolve(bookIds, "Book", fields[2]), null, null, null);
+                    session.insert(new Comment(0, unescape(fields[3]), book));
+                    comments++;
+                }
+                default -> throw new IllegalArgumentException("Line %d: unknown record type '%c'"
+                        .formatted(lineNumber, line.charAt(0)));
+            }
+        }
+
+        private long resolve(LongLongMap ids, String entityName, String fileId) {
+            long id = ids.get(parseId(fileId));
+            if (id == LongLongMap.NO_VALUE) {
+                throw new EntityNotFoundException("%s with id %s not found (line %d)"
+                        .formatted(entityName, fileId, lineNumber));
+            }
+            return id;
+        }
+
+        private String[] fields(String line, int count) {
+            var fields = line.split(String.valueOf(FIELD_SEPARATOR), -1);
+            if (fields.length != count) {
+                throw new IllegalArgumentException("Line %d: expected %d fields but was '%s'"
+                        .formatted(lineNumber, count, line));
+            }
+            return fields;
+        }
+
+        private long parseId(String field) {
+            try {
+                return Long.parseLong(field);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line %d: invalid id '%s'".formatted(lineNumber, field), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.otus.hw.services;
+
+/**
+ * Minimal open-addressing map from primitive {@code long} ids to primitive {@code long} ids, used to translate
+ * ids of an imported file into generated database ids without boxing. Database ids are positive, so {@code 0}
+ * marks an absent value.
+ */
+final class LongLongMap {
+    static final long NO_VALUE = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    private long[] values = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    long get(long key) {
+        int mask = keys.length - 1;
+        for (int i = index(key, mask); values[i] != NO_VALUE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return NO_VALUE;
+    }
+
+    void put(long key, long value) {
+        if (value == NO_VALUE) {
+            throw new IllegalArgumentException("Value must not be " + NO_VALUE);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        if (insert(keys, values, key, value)) {
+            size++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        var newKeys = new long[keys.length * 2];
+        var newValues = new long[values.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != NO_VALUE) {
+                insert(newKeys, newValues, keys[i], values[i]);
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static boolean insert(long[] keys, long[] values, long key, long value) {
+        int mask = keys.length - 1;
+        int i = index(key, mask);
+        while (values[i] != NO_VALUE) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        return true;
+    }
+
+    private static int index(long key, int mask) {
+        long hash = key * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -1,20 +1,28 @@
+create sequence if not exists authors_seq start with 1 increment by 50;
+
+create sequence if not exists genres_seq start with 1 increment by 50;
+
+create sequence if not exists books_seq start with 1 increment by 50;
+
+create sequence if not exists comments_seq start with 1 increment by 50;
+
 create table authors
 (
-    id        bigserial,
+    id        bigint default next value for authors_seq,
     full_name varchar(255),
     primary key (id)
 );
 
 create table genres
 (
-    id   bigserial,
+    id   bigint default next value for genres_seq,
     name varchar(255),
     primary key (id)
 );
 
 create table books
 (
-    id        bigserial,
+    id        bigint default next value for books_seq,
     title     varchar(255),
     author_id bigint references authors (id) on delete cascade,
     genre_id  bigint references genres (id) on delete cascade,
@@ -23,7 +31,7 @@ create table books
 
 create table if not exists comments
 (
-    id      bigserial,
+    id      bigint default next value for comments_seq,
     text    varchar(1000) not null,
     book_id bigint references books (id) on delete cascade,
     primary key (id)
@@ -1,5 +1,6 @@
 package ru.otus.hw.repositories;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,13 +14,14 @@ import ru.otus.hw.models.Genre;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("Репозиторий на основе JPA для работы с комментариями")
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Import(JpaCommentRepository.class)
 class JpaCommentRepositoryTest {
 
@@ -100,6 +102,47 @@ class JpaCommentRepositoryTest {
                 .containsExactly("New Comment", book.getId());
     }
 
+    @Test
+    @DisplayName("должен сохранять комментарии JDBC-батчами, отсоединяя их от контекста персистентности")
+    void shouldSaveCommentsInBatches() {
+        Book book = em.persist(new Book(0, "Book",
+                em.persist(new Author(0, "Author")),
+                em.persist(new Genre(0, "Genre"))));
+        em.flush();
+        var statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<Comment> comments = IntStream.range(0, 120)
+                .mapToObj(i -> new Comment(0, "Comment " + i, book))
+                .toList();
+        repository.saveAllInBatches(comments);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(comments).allMatch(c -> !em.getEntityManager().contains(c))
+                .extracting(Comment::getId).doesNotHaveDuplicates().doesNotContain(0L);
+        assertThat(repository.findByBookId(book.getId())).hasSize(120);
+    }
+
+    @Test
+    @DisplayName("должен оставлять в контексте персистентности остальные сущности вызывающего")
+    void shouldKeepCallerEntitiesManagedWhenSavingInBatches() {
+        Book book = em.persist(new Book(0, "Book",
+                em.persist(new Author(0, "Author")),
+                em.persist(new Genre(0, "Genre"))));
+        em.flush();
+
+        repository.saveAllInBatches(IntStream.range(0, 120)
+                .mapToObj(i -> new Comment(0, "Comment " + i, book))
+                .toList());
+        book.setTitle("Changed after import");
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Book.class, book.getId()).getTitle()).isEqualTo("Changed after import");
+    }
+
     @Test
     @DisplayName("должен обновлять существующий комментарий")
     void shouldUpdateExistingComment() {
@@ -0,0 +1,78 @@
+package ru.otus.hw.services;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.otus.hw.Application;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports comments for one book through {@link CommentService#createAll(long, java.util.Collection)} with
+ * different JDBC batch sizes, each in a fresh in-memory database, and prints rows per second and the heap left
+ * after the import. Run with {@link #main(String[])}: {@code [comments] [batch sizes...]}.
+ */
+public class CommentImportBenchmark {
+
+    private static final int DEFAULT_COMMENTS_COUNT = 1_000_000;
+
+    private static final int CHUNK_SIZE = 100_000;
+
+    private static final long BOOK_ID = 1L;
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    public static void main(String[] args) {
+        int commentsCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMMENTS_COUNT;
+        int[] batchSizes = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 50, 500};
+
+        System.out.printf("comments=%d chunk=%d%n", commentsCount, CHUNK_SIZE);
+        System.out.printf("%8s %10s %12s %12s%n", "batch", "ms", "rows/s", "heap MB");
+        for (int batchSize : batchSizes) {
+            try (var context = startContext(batchSize)) {
+                var commentService = context.getBean(CommentService.class);
+                long elapsedNanos = importComments(commentService, commentsCount);
+                System.out.printf("%8d %10d %12.0f %12d%n", batchSize, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        commentsCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos, usedHeapMegabytes());
+            }
+        }
+    }
+
+    private static long importComments(CommentService commentService, int commentsCount) {
+        long start = System.nanoTime();
+        for (int from = 0; from < commentsCount; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, commentsCount);
+            List<String> texts = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                texts.add("Comment_" + i);
+            }
+            commentService.createAll(BOOK_ID, texts);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static ConfigurableApplicationContext startContext(int batchSize) {
+        System.setProperty("spring.datasource.url", "jdbc:h2:mem:import" + batchSize);
+        System.setProperty("spring.jpa.show-sql", "false");
+        System.setProperty("spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize));
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        System.setProperty("spring.main.banner-mode", "off");
+        System.setProperty("logging.level.root", "WARN");
+        System.setProperty("logging.level.org.springframework.transaction", "WARN");
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    private static long usedHeapMegabytes() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / MEGABYTE;
+    }
+}
@@ -19,8 +19,8 @@ public class BookCommands {
 
     @ShellMethod(value = "Find all books", key = "ab")
     public String findAllBooks() {
-        return bookService.findAll().stream()
-                .map(bookConverter::bookToString)
+        return bookService.findAllSummaries().stream()
+                .map(bookConverter::bookSummaryToString)
                 .collect(Collectors.joining("," + System.lineSeparator()));
     }
 
@@ -3,9 +3,16 @@ package ru.otus.hw.commands;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.CommentConverter;
 import ru.otus.hw.services.CommentService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -25,9 +32,31 @@ public class CommentCommands {
 
     @ShellMethod(value = "Find comments by book id", key = "cbid")
     public String findCommentsByBookId(long bookId) {
-        return commentService.findByBookId(bookId).stream()
+        return commentService.findSummariesByBookId(bookId).stream()
+                .map(commentConverter::commentSummaryToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+    }
+
+    // cbidp 1 --last-id 20 --limit 20
+    @ShellMethod(value = "Find page of book comments after given comment id", key = "cbidp")
+    public String findCommentsPageByBookId(long bookId,
+                                           @ShellOption(value = "--last-id", defaultValue = "0") long lastId,
+                                           @ShellOption(defaultValue = "20") int limit) {
+        if (limit <= 0) {
+            return "Limit must be positive but was %d".formatted(limit);
+        }
+        var comments = commentService.findPageByBookId(bookId, lastId, limit);
+        if (comments.isEmpty()) {
+            return "No comments of book %d after id %d".formatted(bookId, lastId);
+        }
+        var page = comments.stream()
                 .map(commentConverter::commentToString)
                 .collect(Collectors.joining("," + System.lineSeparator()));
+        if (!comments.hasNext()) {
+            return page;
+        }
+        return page + System.lineSeparator() + "Next page: cbidp %d --last-id %d --limit %d"
+                .formatted(bookId, comments.getContent().get(comments.size() - 1).getId(), limit);
     }
 
     @ShellMethod(value = "Create comment", key = "ccreate")
@@ -36,6 +65,18 @@ public class CommentCommands {
         return commentConverter.commentToString(savedComment);
     }
 
+    // cimp 1 comments.txt
+    @ShellMethod(value = "Import comments of book from file, one comment per line", key = "cimp")
+    public String importComments(long bookId, String file) {
+        List<String> texts;
+        try (var lines = Files.lines(Path.of(file), StandardCharsets.UTF_8)) {
+            texts = lines.filter(line -> !line.isBlank()).toList();
+        } catch (IOException | UncheckedIOException e) {
+            return "Unable to read comments from %s".formatted(file);
+        }
+        return "Imported %d comments to book %d".formatted(commentService.createAll(bookId, texts), bookId);
+    }
+
     @ShellMethod(value = "Update comment", key = "cupd")
     public String updateComment(long id, String text) {
         var savedComment = commentService.update(id, text);
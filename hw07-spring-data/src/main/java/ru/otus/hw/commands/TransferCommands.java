@@ -0,0 +1,35 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.services.LibraryTransferService;
+import ru.otus.hw.services.TransferStatistics;
+
+import java.nio.file.Path;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class TransferCommands {
+
+    private final LibraryTransferService libraryTransferService;
+
+    // lexp library.txt
+    @ShellMethod(value = "Export authors, genres, books and comments to file", key = "lexp")
+    public String exportLibrary(String file) {
+        return "Exported " + format(libraryTransferService.exportLibrary(Path.of(file))) + " to " + file;
+    }
+
+    // limp library.txt
+    @ShellMethod(value = "Import authors, genres, books and comments from file", key = "limp")
+    public String importLibrary(String file) {
+        return "Imported " + format(libraryTransferService.importLibrary(Path.of(file))) + " from " + file;
+    }
+
+    private static String format(TransferStatistics s) {
+        return "%d rows (%d authors, %d genres, %d books, %d comments) in %d ms, %.0f rows/s"
+                .formatted(s.getRows(), s.authors(), s.genres(), s.books(), s.comments(), s.getElapsedMillis(),
+                        s.getRowsPerSecond());
+    }
+}
@@ -3,6 +3,7 @@ package ru.otus.hw.converters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookSummary;
 
 @RequiredArgsConstructor
 @Component
@@ -18,4 +19,12 @@ public class BookConverter {
                 authorConverter.authorToString(book.getAuthor()),
                 genreConverter.genreToString(book.getGenre()));
     }
+
+    public String bookSummaryToString(BookSummary book) {
+        return "Id: %d, title: %s, author: %s, genre: %s".formatted(
+                book.id(),
+                book.title(),
+                book.authorName(),
+                book.genreName());
+    }
 }
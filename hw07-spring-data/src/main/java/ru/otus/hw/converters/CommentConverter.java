@@ -2,6 +2,7 @@ package ru.otus.hw.converters;
 
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
 
 @Component
 public class CommentConverter {
@@ -11,4 +12,8 @@ public class CommentConverter {
                 comment.getText(),
                 comment.getBook().getId());
     }
+
+    public String commentSummaryToString(CommentSummary comment) {
+        return "Id: %d, Text: %s, BookId: %d".formatted(comment.id(), comment.text(), comment.bookId());
+    }
 }
\ No newline at end of file
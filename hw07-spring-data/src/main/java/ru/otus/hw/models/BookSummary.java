@@ -0,0 +1,4 @@
+package ru.otus.hw.models;
+
+public record BookSummary(long id, String title, String authorName, String genreName) {
+}
@@ -0,0 +1,4 @@
+package ru.otus.hw.models;
+
+public record CommentSummary(long id, String text, long bookId) {
+}
@@ -2,7 +2,9 @@ package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +15,8 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     @EntityGraph(value = "Book.withAuthorAndGenre")
     List<Book> findAll();
+
+    @Query("SELECT new ru.otus.hw.models.BookSummary(b.id, b.title, a.fullName, g.name) " +
+            "FROM Book b LEFT JOIN b.author a LEFT JOIN b.genre g ORDER BY b.id")
+    List<BookSummary> findAllSummaries();
 }
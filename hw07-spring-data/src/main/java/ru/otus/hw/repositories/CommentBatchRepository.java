@@ -0,0 +1,7 @@
+package ru.otus.hw.repositories;
+
+import ru.otus.hw.models.Comment;
+
+public interface CommentBatchRepository {
+    void saveAllInBatches(Iterable<Comment> comments);
+}
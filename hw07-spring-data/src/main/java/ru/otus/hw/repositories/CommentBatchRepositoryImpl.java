@@ -0,0 +1,44 @@
+package ru.otus.hw.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import ru.otus.hw.models.Comment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommentBatchRepositoryImpl implements CommentBatchRepository {
+    private final EntityManager em;
+
+    private final int batchSize;
+
+    public CommentBatchRepositoryImpl(EntityManager em,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.em = em;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Unlike {@link org.springframework.data.jpa.repository.JpaRepository#saveAll(Iterable)} flushes after every
+     * JDBC batch and detaches the comments of that batch, so the context does not grow with the number of
+     * comments. Other entities managed by the caller's transaction stay attached.
+     */
+    @Override
+    public void saveAllInBatches(Iterable<Comment> comments) {
+        List<Comment> batch = new ArrayList<>(batchSize);
+        for (Comment comment : comments) {
+            em.persist(comment);
+            batch.add(comment);
+            if (batch.size() == batchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+    }
+
+    private void flushAndDetach(List<Comment> batch) {
+        em.flush();
+        batch.forEach(em::detach);
+        batch.clear();
+    }
+}
@@ -1,17 +1,33 @@
 package ru.otus.hw.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentBatchRepository {
 
     @EntityGraph(value = "Comment.withBook")
     Optional<Comment> findById(long id);
 
     List<Comment> findByBookId(long bookId);
 
+    @Query("SELECT new ru.otus.hw.models.CommentSummary(c.id, c.text, c.book.id) " +
+            "FROM Comment c WHERE c.book.id = :bookId ORDER BY c.id")
+    List<CommentSummary> findSummariesByBookId(@Param("bookId") long bookId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Window<Comment> findByBookIdOrderById(long bookId, ScrollPosition position, Limit limit);
+
 }
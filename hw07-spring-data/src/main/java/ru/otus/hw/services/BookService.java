@@ -1,6 +1,7 @@
 package ru.otus.hw.services;
 
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +11,8 @@ public interface BookService {
 
     List<Book> findAll();
 
+    List<BookSummary> findAllSummaries();
+
     Book insert(String title, long authorId, long genreId);
 
     Book update(long id, String title, long authorId, long genreId);
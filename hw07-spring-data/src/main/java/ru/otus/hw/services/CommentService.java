@@ -1,7 +1,10 @@
 package ru.otus.hw.services;
 
+import org.springframework.data.domain.Window;
 import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,8 +13,14 @@ public interface CommentService {
 
     List<Comment> findByBookId(long bookId);
 
+    List<CommentSummary> findSummariesByBookId(long bookId);
+
+    Window<Comment> findPageByBookId(long bookId, long lastId, int limit);
+
     Comment create(String text, long bookId);
 
+    int createAll(long bookId, Collection<String> texts);
+
     Comment update(long id, String text);
 
     void deleteById(long id);
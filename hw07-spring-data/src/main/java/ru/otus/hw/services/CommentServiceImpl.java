@@ -1,15 +1,21 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -32,6 +38,19 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findByBookId(bookId);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<CommentSummary> findSummariesByBookId(long bookId) {
+        return commentRepository.findSummariesByBookId(bookId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Window<Comment> findPageByBookId(long bookId, long lastId, int limit) {
+        var position = lastId > 0 ? ScrollPosition.forward(Map.of("id", lastId)) : ScrollPosition.keyset();
+        return commentRepository.findByBookIdOrderById(bookId, position, Limit.of(limit));
+    }
+
     @Transactional
     @Override
     public Comment create(String text, long bookId) {
@@ -41,6 +60,17 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.save(comment);
     }
 
+    @Transactional
+    @Override
+    public int createAll(long bookId, Collection<String> texts) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new EntityNotFoundException("Book with id %d not found".formatted(bookId)));
+        commentRepository.saveAllInBatches(() -> texts.stream()
+                .map(text -> new Comment(0, text, book))
+                .iterator());
+        return texts.size();
+    }
+
     @Transactional
     @Override
     public Comment update(long id, String text) {
@@ -0,0 +1,9 @@
+package ru.otus.hw.services;
+
+import java.nio.file.Path;
+
+public interface LibraryTransferService {
+    TransferStatistics exportLibrary(Path file);
+
+    TransferStatistics importLibrary(Path file);
+}
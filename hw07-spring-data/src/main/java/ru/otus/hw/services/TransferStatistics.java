@@ -0,0 +1,18 @@
+package ru.otus.hw.services;
+
+import java.util.concurrent.TimeUnit;
+
+public record TransferStatistics(long authors, long genres, long books, long comments, long elapsedNanos) {
+
+    public long getRows() {
+        return authors + genres + books + comments;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : getRows() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -1,19 +1,24 @@
-insert into authors(full_name)
-values ('Author_1'),
-       ('Author_2'),
-       ('Author_3');
+insert into authors(id, full_name)
+values (1, 'Author_1'),
+       (2, 'Author_2'),
+       (3, 'Author_3');
 
-insert into genres(name)
-values ('Genre_1'),
-       ('Genre_2'),
-       ('Genre_3');
+insert into genres(id, name)
+values (1, 'Genre_1'),
+       (2, 'Genre_2'),
+       (3, 'Genre_3');
 
-insert into books(title, author_id, genre_id)
-values ('BookTitle_1', 1, 1),
-       ('BookTitle_2', 2, 2),
-       ('BookTitle_3', 3, 3);
+insert into books(id, title, author_id, genre_id)
+values (1, 'BookTitle_1', 1, 1),
+       (2, 'BookTitle_2', 2, 2),
+       (3, 'BookTitle_3', 3, 3);
 
-insert into comments (text, book_id)
-values ('Great book!', 1),
-       ('Could be better', 2),
-       ('Not bad', 3);
\ No newline at end of file
+insert into comments (id, text, book_id)
+values (1, 'Great book!', 1),
+       (2, 'Could be better', 2),
+       (3, 'Not bad', 3);
+
+alter sequence authors_seq restart with 4;
+alter sequence genres_seq restart with 4;
+alter sequence books_seq restart with 4;
+alter sequence comments_seq restart with 4;
\ No newline at end of file
@@ -1,11 +1,15 @@
 package ru.otus.hw.repositories;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.models.Author;
 
 import java.util.List;
@@ -14,7 +18,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе JPA для работы с авторами")
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class JpaAuthorRepositoryTest {
 
     @Autowired
@@ -23,6 +27,9 @@ class JpaAuthorRepositoryTest {
     @Autowired
     private AuthorRepository repository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("должен загружать всех авторов")
     void shouldFindAllAuthors() {
@@ -66,4 +73,27 @@ class JpaAuthorRepositoryTest {
         Optional<Author> actual = repository.findById(333L);
         assertThat(actual).isEmpty();
     }
+
+    @Test
+    @DisplayName("должен повторно отдавать автора и список авторов из кэша второго уровня")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeRepeatedReadsFromSecondLevelCache() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getCache().evictQueryRegions();
+        var statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        repository.findById(1L);
+        repository.findAll();
+        long statementsCount = statistics.getPrepareStatementCount();
+        Optional<Author> cached = repository.findById(1L);
+        List<Author> cachedAll = repository.findAll();
+
+        assertThat(cached).get().extracting(Author::getFullName).isEqualTo("Author_1");
+        assertThat(cachedAll).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsCount);
+        assertThat(statistics.getCacheRegionStatistics("authors").getHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
 }
\ No newline at end of file
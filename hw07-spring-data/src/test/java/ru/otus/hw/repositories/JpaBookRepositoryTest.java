@@ -1,6 +1,7 @@
 package ru.otus.hw.repositories;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookSummary;
 import ru.otus.hw.models.Genre;
 
 import java.util.List;
@@ -136,4 +138,18 @@ class JpaBookRepositoryTest {
     void shouldNotThrowWhenDeletingNonExistingBook() {
         assertThatNoException().isThrownBy(() -> repository.deleteById(999L));
     }
+
+    @Test
+    @DisplayName("должен загружать краткие сведения о книгах без управляемых сущностей")
+    void shouldFindAllBookSummaries() {
+        em.clear();
+
+        List<BookSummary> summaries = repository.findAllSummaries();
+
+        assertThat(summaries).containsExactly(
+                new BookSummary(1L, "BookTitle_1", "Author_1", "Genre_1"),
+                new BookSummary(2L, "BookTitle_2", "Author_2", "Genre_2"),
+                new BookSummary(3L, "BookTitle_3", "Author_3", "Genre_3"));
+        assertThat(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
 }
\ No newline at end of file
@@ -1,24 +1,32 @@
 package ru.otus.hw.repositories;
 
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
 import ru.otus.hw.models.Genre;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("Репозиторий на основе JPA для работы с комментариями")
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class JpaCommentRepositoryTest {
 
     @Autowired
@@ -98,6 +106,47 @@ class JpaCommentRepositoryTest {
                 .containsExactly("New Comment", book.getId());
     }
 
+    @Test
+    @DisplayName("должен сохранять комментарии JDBC-батчами, отсоединяя их от контекста персистентности")
+    void shouldSaveCommentsInBatches() {
+        Book book = em.persist(new Book(0, "Book",
+                em.persist(new Author(0, "Author")),
+                em.persist(new Genre(0, "Genre"))));
+        em.flush();
+        var statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<Comment> comments = IntStream.range(0, 120)
+                .mapToObj(i -> new Comment(0, "Comment " + i, book))
+                .toList();
+        repository.saveAllInBatches(comments);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(comments).allMatch(c -> !em.getEntityManager().contains(c))
+                .extracting(Comment::getId).doesNotHaveDuplicates().doesNotContain(0L);
+        assertThat(repository.findByBookId(book.getId())).hasSize(120);
+    }
+
+    @Test
+    @DisplayName("должен оставлять в контексте персистентности остальные сущности вызывающего")
+    void shouldKeepCallerEntitiesManagedWhenSavingInBatches() {
+        Book book = em.persist(new Book(0, "Book",
+                em.persist(new Author(0, "Author")),
+                em.persist(new Genre(0, "Genre"))));
+        em.flush();
+
+        repository.saveAllInBatches(IntStream.range(0, 120)
+                .mapToObj(i -> new Comment(0, "Comment " + i, book))
+                .toList());
+        book.setTitle("Changed after import");
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Book.class, book.getId()).getTitle()).isEqualTo("Changed after import");
+    }
+
     @Test
     @DisplayName("должен обновлять существующий комментарий")
     void shouldUpdateExistingComment() {
@@ -136,4 +185,44 @@ class JpaCommentRepositoryTest {
     void shouldNotThrowWhenDeletingNonExistingComment() {
         assertThatNoException().isThrownBy(() -> repository.deleteById(333L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("должен загружать id, текст и id книги комментариев без управляемых сущностей")
+    void shouldFindCommentSummariesByBookId() {
+        em.clear();
+
+        List<CommentSummary> summaries = repository.findSummariesByBookId(2L);
+
+        assertThat(summaries).containsExactly(
+                new CommentSummary(2L, "Could be better", 2L),
+                new CommentSummary(3L, "Good", 2L));
+        assertThat(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("должен листать комментарии книги окнами по ключу, загружая их только для чтения")
+    void shouldScrollCommentsByBookIdInReadOnlyWindows() {
+        Book book = em.persist(new Book(0, "Book",
+                em.persist(new Author(0, "Author")),
+                em.persist(new Genre(0, "Genre"))));
+        IntStream.range(0, 25).forEach(i -> em.persist(new Comment(0, "Comment " + i, book)));
+        em.flush();
+        em.clear();
+
+        List<Comment> scrolled = new ArrayList<>();
+        int windows = 0;
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Comment> window;
+        do {
+            window = repository.findByBookIdOrderById(book.getId(), position, Limit.of(10));
+            scrolled.addAll(window.getContent());
+            position = window.positionAt(window.size() - 1);
+            windows++;
+        } while (window.hasNext());
+
+        assertThat(windows).isEqualTo(3);
+        assertThat(scrolled).extracting(Comment::getText)
+                .containsExactlyElementsOf(IntStream.range(0, 25).mapToObj(i -> "Comment " + i).toList());
+        assertThat(scrolled).allMatch(c -> em.getEntityManager().unwrap(Session.class).isReadOnly(c));
+    }
+}
@@ -0,0 +1,156 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("Сервис выгрузки и загрузки библиотеки через StatelessSession")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LibraryTransferServiceImplIntegrationTest {
+
+    @Autowired
+    private LibraryTransferService libraryTransferService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @AfterEach
+    void deleteImportedRows() {
+        jdbcTemplate.update("delete from comments where book_id is null");
+        jdbcTemplate.update("delete from books where id > 3");
+        jdbcTemplate.update("delete from authors where id > 3");
+        jdbcTemplate.update("delete from genres where id > 3");
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("должен выгружать библиотеку и загружать её обратно с новыми id и теми же связями")
+    void shouldExportAndImportLibrary() {
+        Path file = tempDir.resolve("library.txt");
+
+        var exported = libraryTransferService.exportLibrary(file);
+        var imported = libraryTransferService.importLibrary(file);
+
+        assertThat(exported).extracting(TransferStatistics::authors, TransferStatistics::genres,
+                TransferStatistics::books, TransferStatistics::comments).containsExactly(3L, 3L, 3L, 4L);
+        assertThat(imported.getRows()).isEqualTo(exported.getRows());
+        assertThat(query("select count(c) from Comment c join c.book b join b.author a join b.genre g " +
+                "where b.id > 3 and substring(b.title, 11) = substring(a.fullName, 8) " +
+                "and substring(b.title, 11) = substring(g.name, 7)")).containsExactly(4L);
+        assertThat(query("select count(c) from Comment c where c.book.id > 3 and c.text = 'Could be better'"))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("должен сохранять табуляции и переводы строк в текстах при выгрузке и загрузке")
+    void shouldEscapeSeparatorsInTexts() throws IOException {
+        Path file = tempDir.resolve("library.txt");
+        Files.writeString(file, String.join("\n",
+                "A\t10\tAuthor\\twith tab",
+                "G\t20\tGenre\\\\slash",
+                "B\t30\t10\t20\tTitle",
+                "C\t40\t30\tfirst line\\nsecond line"), StandardCharsets.UTF_8);
+
+        libraryTransferService.importLibrary(file);
+        libraryTransferService.exportLibrary(file);
+
+        assertThat(query("select c.text from Comment c where c.book.author.fullName = 'Author\twith tab'"))
+                .containsExactly("first line\nsecond line");
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8))
+                .anyMatch(line -> line.startsWith("A\t") && line.endsWith("\tAuthor\\twith tab"))
+                .anyMatch(line -> line.startsWith("G\t") && line.endsWith("\tGenre\\\\slash"))
+                .anyMatch(line -> line.startsWith("C\t") && line.endsWith("\tfirst line\\nsecond line"));
+    }
+
+    @Test
+    @DisplayName("должен сбрасывать кэш списков авторов и жанров после загрузки")
+    void shouldEvictCachedListsAfterImport() throws IOException {
+        Path file = tempDir.resolve("library.txt");
+        Files.writeString(file, "A\t1\tImported author\nG\t1\tImported genre\n", StandardCharsets.UTF_8);
+        assertThat(authorService.findAll()).hasSize(3);
+        assertThat(genreService.findAll()).hasSize(3);
+
+        libraryTransferService.importLibrary(file);
+
+        assertThat(authorService.findAll()).hasSize(4).extracting(Author::getFullName).contains("Imported author");
+        assertThat(genreService.findAll()).hasSize(4).extracting(Genre::getName).contains("Imported genre");
+    }
+
+    @Test
+    @DisplayName("должен отличать null от пустой строки при выгрузке и загрузке")
+    void shouldEncodeNullDistinctlyFromEmptyString() {
+        Path file = tempDir.resolve("library.txt");
+        jdbcTemplate.update("insert into authors(id, full_name) values (100, '')");
+        jdbcTemplate.update("insert into books(id, title, author_id, genre_id) values (100, 'No genre', 100, null)");
+
+        libraryTransferService.exportLibrary(file);
+        libraryTransferService.importLibrary(file);
+
+        assertThat(query("select count(b) from Book b where b.title = 'No genre' and b.genre is null " +
+                "and b.author.fullName = ''")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("должен выгружать и загружать обратно комментарии без книги")
+    void shouldImportCommentsWithoutBook() {
+        Path file = tempDir.resolve("library.txt");
+        jdbcTemplate.update("insert into comments(id, book_id, text) values (100, null, 'Orphan')");
+
+        libraryTransferService.exportLibrary(file);
+        libraryTransferService.importLibrary(file);
+
+        assertThat(query("select count(c) from Comment c where c.text = 'Orphan' and c.book is null"))
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("должен откатывать загрузку при ссылке на отсутствующего в файле автора")
+    void shouldRollbackImportWhenReferenceIsMissing() throws IOException {
+        Path file = tempDir.resolve("library.txt");
+        Files.writeString(file, "G\t1\tGenre\nB\t1\t7\t1\tTitle\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> libraryTransferService.importLibrary(file))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Author with id 7 not found (line 2)");
+        assertThat(query("select count(g) from Genre g")).containsExactly(3L);
+    }
+
+    private List<Object> query(String hql) {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .fromStatelessSession(session -> session.createSelectionQuery(hql, Object.class).getResultList());
+    }
+}
@@ -0,0 +1,120 @@
+package ru.otus.hw.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.otus.hw.Application;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookSummary;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.CommentSummary;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares listing books and comments of a book as managed entities and as constructor projections through the
+ * services. Run with {@link #main(String[])}, allocation per operation is reported as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ListingProjectionBenchmark {
+
+    private static final int AUTHORS_COUNT = 2000;
+
+    private static final int GENRES_COUNT = 50;
+
+    private static final long BOOK_ID = 1L;
+
+    private static final long FIRST_ID = 1000L;
+
+    @Param({"100000"})
+    private int rowsCount;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    private CommentService commentService;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("spring.datasource.url", "jdbc:h2:mem:listing");
+        System.setProperty("spring.jpa.show-sql", "false");
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        System.setProperty("spring.main.banner-mode", "off");
+        System.setProperty("logging.level.root", "WARN");
+        System.setProperty("logging.level.org.springframework.transaction", "WARN");
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO authors(id, full_name) SELECT x + ?, 'Author_' || x FROM SYSTEM_RANGE(1, ?)",
+                FIRST_ID, AUTHORS_COUNT);
+        jdbcTemplate.update("INSERT INTO genres(id, name) SELECT x + ?, 'Genre_' || x FROM SYSTEM_RANGE(1, ?)",
+                FIRST_ID, GENRES_COUNT);
+        jdbcTemplate.update("INSERT INTO books(id, title, author_id, genre_id) " +
+                        "SELECT x + ?, 'BookTitle_' || x, MOD(x, ?) + ? + 1, MOD(x, ?) + ? + 1 FROM SYSTEM_RANGE(1, ?)",
+                FIRST_ID, AUTHORS_COUNT, FIRST_ID, GENRES_COUNT, FIRST_ID, rowsCount);
+        jdbcTemplate.update("INSERT INTO comments(id, text, book_id) " +
+                        "SELECT x + ?, 'Comment_' || x, ? FROM SYSTEM_RANGE(1, ?)",
+                FIRST_ID, BOOK_ID, rowsCount);
+        bookService = context.getBean(BookService.class);
+        commentService = context.getBean(CommentService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Book> bookEntities() {
+        return bookService.findAll();
+    }
+
+    @Benchmark
+    public List<BookSummary> bookSummaries() {
+        return bookService.findAllSummaries();
+    }
+
+    @Benchmark
+    public List<Comment> commentEntities() {
+        return commentService.findByBookId(BOOK_ID);
+    }
+
+    @Benchmark
+    public List<CommentSummary> commentSummaries() {
+        return commentService.findSummariesByBookId(BOOK_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListingProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}